@@ -3,6 +3,7 @@ plugins {
     id("org.jetbrains.gradle.plugin.idea-ext") version "1.1.8"
     id("xyz.jpenilla.run-velocity") version "2.3.1"
     id("net.kyori.blossom") version "2.1.0"
+    id("me.champeau.jmh") version "0.7.2"
 }
 
 val javaVersion: String by project
@@ -48,6 +49,10 @@ dependencies {
     implementation("org.spongepowered:configurate-yaml:${configurateVersion}")
     // Guava Caching
     implementation("com.google.guava:guava:${guavaVersion}")
+
+    // Benchmarks run outside of the proxy, so they need the API on their classpath
+    jmh("com.velocitypowered:velocity-api:${velocityVer}")
+    jmh("net.luckperms:api:${luckPermsVersion}")
 }
 
 tasks {
@@ -68,6 +73,15 @@ tasks {
     }
 }
 
+// Benchmarks of the message hot paths, run them with ./gradlew :proxy:jmh
+jmh {
+    warmupIterations = 3
+    iterations = 5
+    fork = 1
+    // Report the allocation rate of every benchmark next to its throughput
+    profilers = listOf("gc")
+}
+
 sourceSets {
     main {
         blossom {
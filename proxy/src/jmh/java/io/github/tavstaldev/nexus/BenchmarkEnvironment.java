@@ -0,0 +1,169 @@
+package io.github.tavstaldev.nexus;
+
+import com.velocitypowered.api.command.CommandSource;
+import com.velocitypowered.api.network.ProtocolVersion;
+import com.velocitypowered.api.permission.Tristate;
+import com.velocitypowered.api.proxy.Player;
+import com.velocitypowered.api.proxy.ProxyServer;
+
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The BenchmarkEnvironment class boots the plugin outside of a proxy, so benchmarks can run
+ * the real message paths. The proxy, the players and the command sources are stubs whose
+ * sendMessage only counts the messages it receives.
+ */
+public final class BenchmarkEnvironment {
+    // The number of messages received by the stub audiences.
+    public static final LongAdder RECEIVED = new LongAdder();
+
+    // The players returned by the stub proxy.
+    private static final List<Player> players = new ArrayList<>();
+
+    private static boolean booted;
+
+    private BenchmarkEnvironment() {
+    }
+
+    /**
+     * Constructs the plugin against a stub proxy and loads its default configuration
+     * from a temporary data folder. Calling it again does nothing.
+     */
+    public static synchronized void boot() {
+        if (booted)
+            return;
+
+        try {
+            Path dataFolder = Files.createTempDirectory("nexus-jmh");
+            ProxyServer proxy = stub(ProxyServer.class, (method, args) -> switch (method) {
+                case "getAllPlayers" -> players;
+                case "getPlayerCount" -> players.size();
+                case "getPlayer" -> Optional.empty();
+                default -> null;
+            });
+            new Nexus(proxy, dataFolder, null);
+            Nexus.plugin.getConfigurationLoader().loadAll();
+        } catch (IOException ex) {
+            throw new IllegalStateException("Failed to create the data folder of the benchmark", ex);
+        }
+        booted = true;
+    }
+
+    /**
+     * Replaces the online players of the stub proxy.
+     *
+     * @param count      The number of online players.
+     * @param staffEvery Every how many players one holds the staff permissions.
+     * @return The online players.
+     */
+    public static synchronized Collection<Player> populate(int count, int staffEvery) {
+        players.clear();
+        for (int i = 0; i < count; i++) {
+            players.add(player("Player" + i, i % staffEvery == 0));
+        }
+        return players;
+    }
+
+    /**
+     * Creates a stub player.
+     *
+     * @param name  The name of the player.
+     * @param staff Whether the player holds every permission.
+     * @return The stub Player.
+     */
+    public static Player player(String name, boolean staff) {
+        UUID uuid = UUID.nameUUIDFromBytes(name.getBytes());
+        return stub(Player.class, (method, args) -> switch (method) {
+            case "getUsername" -> name;
+            case "getUniqueId" -> uuid;
+            case "hasPermission" -> staff;
+            case "getPermissionValue" -> staff ? Tristate.TRUE : Tristate.UNDEFINED;
+            case "getProtocolVersion" -> ProtocolVersion.MAXIMUM_VERSION;
+            case "getCurrentServer" -> Optional.empty();
+            case "isActive" -> true;
+            case "getPing" -> 42L;
+            case "sendMessage" -> {
+                RECEIVED.increment();
+                yield null;
+            }
+            default -> null;
+        });
+    }
+
+    /**
+     * Creates a stub command source holding every permission.
+     *
+     * @return The stub CommandSource.
+     */
+    public static CommandSource commandSource() {
+        return stub(CommandSource.class, (method, args) -> switch (method) {
+            case "hasPermission" -> true;
+            case "getPermissionValue" -> Tristate.TRUE;
+            case "sendMessage" -> {
+                RECEIVED.increment();
+                yield null;
+            }
+            default -> null;
+        });
+    }
+
+    /**
+     * Creates a stub of an interface. Object methods use identity semantics,
+     * every other method is answered by the handler.
+     *
+     * @param type    The interface to stub.
+     * @param handler The handler answering the calls by method name.
+     * @return The stub instance.
+     */
+    private static <T> T stub(Class<T> type, StubHandler handler) {
+        Object stub = Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> switch (method.getName()) {
+            case "equals" -> proxy == args[0];
+            case "hashCode" -> System.identityHashCode(proxy);
+            case "toString" -> type.getSimpleName() + "Stub";
+            default -> {
+                Object result = handler.handle(method.getName(), args);
+                if (result == null && method.getReturnType().isPrimitive())
+                    yield defaultValue(method.getReturnType());
+                yield result;
+            }
+        });
+        return type.cast(stub);
+    }
+
+    /**
+     * Retrieves the default value of a primitive type.
+     *
+     * @param type The primitive type.
+     * @return The boxed default value.
+     */
+    private static Object defaultValue(Class<?> type) {
+        if (type == boolean.class)
+            return false;
+        if (type == void.class)
+            return null;
+        if (type == long.class)
+            return 0L;
+        if (type == double.class)
+            return 0D;
+        if (type == float.class)
+            return 0F;
+        return 0;
+    }
+
+    /**
+     * Answers the calls of a stub by method name.
+     */
+    @FunctionalInterface
+    private interface StubHandler {
+        Object handle(String method, Object[] args);
+    }
+}
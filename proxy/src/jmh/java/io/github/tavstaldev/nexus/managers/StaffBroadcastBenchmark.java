@@ -0,0 +1,65 @@
+package io.github.tavstaldev.nexus.managers;
+
+import com.velocitypowered.api.proxy.Player;
+import io.github.tavstaldev.nexus.BenchmarkEnvironment;
+import io.github.tavstaldev.nexus.Nexus;
+import io.github.tavstaldev.nexus.NexusConstants;
+import net.kyori.adventure.text.Component;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the staff broadcasts of the listeners: filtering every online player by permission,
+ * iterating the permission-indexed audience, and submitting through the broadcast manager.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class StaffBroadcastBenchmark {
+    @Param({"100", "1000", "3000"})
+    public int onlinePlayers;
+
+    private Collection<Player> players;
+    private Player sender;
+    private final Component message = Component.text("Steve switched servers (lobby -> survival)");
+
+    @Setup
+    public void setup() {
+        BenchmarkEnvironment.boot();
+        // Every 50th player is a staff member.
+        players = BenchmarkEnvironment.populate(onlinePlayers, 50);
+        sender = players.iterator().next();
+        var audienceManager = Nexus.plugin.getAudienceManager();
+        audienceManager.trackConfiguredPermissions();
+        players.forEach(audienceManager::refreshPlayer);
+    }
+
+    @TearDown
+    public void tearDown() {
+        players.forEach(Nexus.plugin.getAudienceManager()::removePlayer);
+    }
+
+    @Benchmark
+    public void filterOnlinePlayers() {
+        players.stream()
+                .filter(x -> x != sender && x.hasPermission(NexusConstants.STAFF_PERMISSION))
+                .forEach(x -> x.sendMessage(message));
+    }
+
+    @Benchmark
+    public void iterateAudience() {
+        for (Player staff : Nexus.plugin.getAudienceManager().getMembers(NexusConstants.STAFF_PERMISSION)) {
+            if (staff != sender)
+                staff.sendMessage(message);
+        }
+    }
+
+    @Benchmark
+    public void broadcastAndWait() {
+        Nexus.plugin.getBroadcastManager()
+                .broadcast(Nexus.plugin.getAudienceManager().getMembers(NexusConstants.STAFF_PERMISSION), message)
+                .join();
+    }
+}
@@ -0,0 +1,81 @@
+package io.github.tavstaldev.nexus.util;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the single-pass legacy color translator of ChatUtil with the previous
+ * implementation, which copied the string once and then ran a chained String.replace per code.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class LegacyTranslationBenchmark {
+    @Param({
+            "&e&l[HelpOp]&r &6Steve &7(lobby) &8» &fCould someone help me with my island?",
+            "<hover:show_text:'&cStaff Chat'>&c&l[S]</hover>&r &7Steve&8: &fhello there",
+            "Plain chat message without any color codes at all"
+    })
+    public String message;
+
+    @Benchmark
+    public String previousImplementation() {
+        return legacyToMiniMessage(translateAlternateColorCodes(message));
+    }
+
+    @Benchmark
+    public String singlePass() {
+        return ChatUtil.translateLegacy(message);
+    }
+
+    @Benchmark
+    public String singlePassMemoized() {
+        return ChatUtil.legacyToMiniMessage(message);
+    }
+
+    /**
+     * The previous '&' to '§' translation, kept as the baseline of the comparison.
+     */
+    private static String translateAlternateColorCodes(String textToTranslate) {
+        char[] b = textToTranslate.toCharArray();
+
+        for (int i = 0; i < b.length - 1; ++i) {
+            if (b[i] == '&' && "0123456789AaBbCcDdEeFfKkLlMmNnOoRrXx".indexOf(b[i + 1]) > -1) {
+                b[i] = 167;
+                b[i + 1] = Character.toLowerCase(b[i + 1]);
+            }
+        }
+
+        return new String(b);
+    }
+
+    /**
+     * The previous '§' to MiniMessage translation, kept as the baseline of the comparison.
+     */
+    private static String legacyToMiniMessage(String message) {
+        return message
+                .replace("§0", "<black>")
+                .replace("§1", "<dark_blue>")
+                .replace("§2", "<dark_green>")
+                .replace("§3", "<dark_aqua>")
+                .replace("§4", "<dark_red>")
+                .replace("§5", "<dark_purple>")
+                .replace("§6", "<gold>")
+                .replace("§7", "<gray>")
+                .replace("§8", "<dark_gray>")
+                .replace("§9", "<blue>")
+                .replace("§a", "<green>")
+                .replace("§b", "<aqua>")
+                .replace("§c", "<red>")
+                .replace("§d", "<light_purple>")
+                .replace("§e", "<yellow>")
+                .replace("§f", "<white>")
+                .replace("§l", "<bold>")
+                .replace("§o", "<italic>")
+                .replace("§n", "<underlined>")
+                .replace("§m", "<strikethrough>")
+                .replace("§k", "<obfuscated>")
+                .replace("§r", "<reset>");
+    }
+}
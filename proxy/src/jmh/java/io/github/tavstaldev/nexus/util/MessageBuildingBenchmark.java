@@ -0,0 +1,55 @@
+package io.github.tavstaldev.nexus.util;
+
+import com.velocitypowered.api.proxy.Player;
+import io.github.tavstaldev.nexus.BenchmarkEnvironment;
+import io.github.tavstaldev.nexus.placeholder.PlaceholderContext;
+import net.kyori.adventure.text.Component;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures building chat messages from the formats of the default configuration,
+ * with a parameter map and with a placeholder context, and translating raw colored strings.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class MessageBuildingBenchmark {
+    @Param({
+            "&e&l[HelpOp]&r &6%player% &7(%server%) &8» &f%message%",
+            "<hover:show_text:'&cStaff Chat'>&c&l[S]</hover>&r &7%player%&8: &f%message%",
+            "&c<hover:show_text:'&cNetwork Alert by %player%'>Alert</hover> &8» &f%message%"
+    })
+    public String format;
+
+    private Player player;
+
+    @Setup
+    public void setup() {
+        BenchmarkEnvironment.boot();
+        player = BenchmarkEnvironment.player("Steve", true);
+    }
+
+    @Benchmark
+    public Component buildMessageWithMap() {
+        return ChatUtil.buildMessage(format, Map.of(
+                "player", player.getUsername(),
+                "server", "lobby",
+                "message", "Could someone help me with my island?"
+        ));
+    }
+
+    @Benchmark
+    public Component buildMessageWithContext() {
+        return ChatUtil.buildMessage(format, PlaceholderContext.of(player)
+                .with("server", "lobby")
+                .with("message", "Could someone help me with my island?"));
+    }
+
+    @Benchmark
+    public Component translateColors() {
+        return ChatUtil.translateColors(format, true);
+    }
+}
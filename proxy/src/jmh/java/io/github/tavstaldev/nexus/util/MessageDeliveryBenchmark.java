@@ -0,0 +1,58 @@
+package io.github.tavstaldev.nexus.util;
+
+import com.velocitypowered.api.command.CommandSource;
+import io.github.tavstaldev.nexus.BenchmarkEnvironment;
+import io.github.tavstaldev.nexus.Nexus;
+import io.github.tavstaldev.nexus.config.MessageKey;
+import io.github.tavstaldev.nexus.placeholder.PlaceholderContext;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures sending configured messages to a command source, comparing the raw string path
+ * with the precompiled message table.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class MessageDeliveryBenchmark {
+    private CommandSource source;
+    private String rawSyntaxMessage;
+
+    @Setup
+    public void setup() {
+        BenchmarkEnvironment.boot();
+        source = BenchmarkEnvironment.commandSource();
+        rawSyntaxMessage = MessageKey.GENERAL_COMMAND_SYNTAX.getRaw(Nexus.plugin.getMessages());
+    }
+
+    @Benchmark
+    public void sendRawMessage() {
+        MessageUtil.sendRichMsg(source, rawSyntaxMessage, Map.of(
+                "syntax", "<message>",
+                "command", "alert"
+        ));
+    }
+
+    @Benchmark
+    public void sendStaticMessage() {
+        MessageUtil.sendRichMsg(source, MessageKey.GENERAL_NO_PERMISSION);
+    }
+
+    @Benchmark
+    public void sendMessageWithMap() {
+        MessageUtil.sendRichMsg(source, MessageKey.GENERAL_COMMAND_SYNTAX, Map.of(
+                "syntax", "<message>",
+                "command", "alert"
+        ));
+    }
+
+    @Benchmark
+    public void sendMessageWithContext() {
+        MessageUtil.sendRichMsg(source, MessageKey.GENERAL_COMMAND_SYNTAX, PlaceholderContext.empty()
+                .with("syntax", "<message>")
+                .with("command", "alert"));
+    }
+}
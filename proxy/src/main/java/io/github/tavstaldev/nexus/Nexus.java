@@ -14,15 +14,25 @@ import io.github.tavstaldev.nexus.config.*;
 import io.github.tavstaldev.nexus.config.reporting.Report;
 import io.github.tavstaldev.nexus.events.*;
 import io.github.tavstaldev.nexus.logger.PluginLogger;
+import io.github.tavstaldev.nexus.managers.AudienceManager;
+import io.github.tavstaldev.nexus.managers.BroadcastManager;
 import io.github.tavstaldev.nexus.managers.CommandManager;
 import io.github.tavstaldev.nexus.managers.FavIconManager;
+import io.github.tavstaldev.nexus.managers.LobbyQueueManager;
 import io.github.tavstaldev.nexus.managers.LobbyServerManager;
+import io.github.tavstaldev.nexus.managers.LocaleManager;
+import io.github.tavstaldev.nexus.managers.PingAnalyticsManager;
+import io.github.tavstaldev.nexus.managers.PingLimitManager;
+import io.github.tavstaldev.nexus.managers.PingResponseManager;
+import io.github.tavstaldev.nexus.managers.SamplePlayerManager;
 import io.github.tavstaldev.nexus.managers.StaffManager;
 import io.github.tavstaldev.nexus.metrics.Metrics;
 import io.github.tavstaldev.nexus.models.FallbackPrefix;
 import io.github.tavstaldev.nexus.models.IPrefixHelper;
 import io.github.tavstaldev.nexus.models.LuckPrefix;
+import io.github.tavstaldev.nexus.placeholder.PlaceholderRegistry;
 import net.luckperms.api.LuckPermsProvider;
+import net.luckperms.api.event.user.UserDataRecalculateEvent;
 import org.jetbrains.annotations.NotNull;
 
 import java.nio.file.Path;
@@ -73,9 +83,36 @@ public class Nexus {
     // The manager for tracking online staff members.
     private final StaffManager staffManager;
 
+    // The manager for tracking the players holding each broadcast permission.
+    private final AudienceManager audienceManager;
+
+    // The manager for delivering messages to many players.
+    private final BroadcastManager broadcastManager;
+
+    // The manager for resolving the message table of each player.
+    private final LocaleManager localeManager;
+
+    // The registry of the placeholders available to message formats.
+    private final PlaceholderRegistry placeholderRegistry;
+
+    // The manager for building and caching the server list ping responses.
+    private final PingResponseManager pingResponseManager;
+
+    // The manager for rate limiting the server list pings.
+    private final PingLimitManager pingLimitManager;
+
+    // The manager for collecting server list ping statistics.
+    private final PingAnalyticsManager pingAnalyticsManager;
+
+    // The manager for maintaining the players shown in the server list ping.
+    private final SamplePlayerManager samplePlayerManager;
+
     // The manager for handling lobby server status and selection.
     private LobbyServerManager lobbyServerManager;
 
+    // The manager for redirecting the players kicked from a lobby server.
+    private final LobbyQueueManager lobbyQueueManager;
+
     private final Metrics.Factory metricsFactory;
 
     private IPrefixHelper prefixHelper;
@@ -95,8 +132,18 @@ public class Nexus {
         pluginLogger = new PluginLogger();
         configurationLoader = new ConfigurationLoader();
         favIconManager = new FavIconManager();
+        pingResponseManager = new PingResponseManager();
+        pingLimitManager = new PingLimitManager();
+        pingAnalyticsManager = new PingAnalyticsManager();
+        samplePlayerManager = new SamplePlayerManager();
+        lobbyQueueManager = new LobbyQueueManager();
         commandManager = new CommandManager();
         staffManager = new StaffManager();
+        audienceManager = new AudienceManager();
+        broadcastManager = new BroadcastManager();
+        localeManager = new LocaleManager();
+        placeholderRegistry = new PlaceholderRegistry();
+        placeholderRegistry.registerDefaults();
     }
 
     /**
@@ -109,7 +156,14 @@ public class Nexus {
         try {
             configurationLoader.loadAll();
             favIconManager.loadIcons();
-            lobbyServerManager = new LobbyServerManager(getConfig().getLobbyServers());
+            samplePlayerManager.start();
+            pingResponseManager.load();
+            favIconManager.startWatching();
+            lobbyServerManager = new LobbyServerManager(getConfig().getLobbyServers(), getConfig().getLobbyHealth(), getConfig().getLobbyBalancing());
+            lobbyQueueManager.start();
+            audienceManager.trackConfiguredPermissions();
+            pingLimitManager.load();
+            pingAnalyticsManager.start();
 
             commandManager.registerCommands();
             this.registerListeners();
@@ -129,7 +183,11 @@ public class Nexus {
             Optional<PluginContainer> luckPermsContainer = proxy.getPluginManager().getPlugin("luckperms");
             if (luckPermsContainer.isPresent()) {
                 pluginLogger.info("LuckPerms found! Attempting to hook into API.");
-                prefixHelper = new LuckPrefix(LuckPermsProvider.get());
+                var luckPerms = LuckPermsProvider.get();
+                prefixHelper = new LuckPrefix(luckPerms);
+                // Keep the broadcast audiences in sync with permission changes.
+                luckPerms.getEventBus().subscribe(this, UserDataRecalculateEvent.class,
+                        e -> audienceManager.refreshPlayer(e.getUser().getUniqueId()));
             } else {
                 pluginLogger.warn("LuckPerms not found! Prefixes/suffixes will not be available.");
                 prefixHelper = new FallbackPrefix();
@@ -164,6 +222,13 @@ public class Nexus {
         if (this.reportCleanerTask != null)
             this.reportCleanerTask.cancel();
         commandManager.unregisterCommands();
+        broadcastManager.shutdown();
+        samplePlayerManager.shutdown();
+        favIconManager.stopWatching();
+        pingAnalyticsManager.shutdown();
+        lobbyQueueManager.shutdown();
+        if (lobbyServerManager != null)
+            lobbyServerManager.shutdown();
         pluginLogger.ok("nexusProxy v1.0.0 has been disabled!");
     }
 
@@ -176,7 +241,10 @@ public class Nexus {
         new PreConnectEventListener().register();
         new ProxyPingEventListener().register();
         new ConnectEventListener().register();
+        new KickedFromServerEventListener().register();
         new DisconnectEventListener().register();
+        new LoginEventListener().register();
+        new PlayerSettingsEventListener().register();
     }
 
     /**
@@ -242,6 +310,15 @@ public class Nexus {
         return configurationLoader.getMessages();
     }
 
+    /**
+     * Retrieves the precompiled table of the plugin's messages.
+     *
+     * @return The MessageTable instance.
+     */
+    public MessageTable getMessageTable() {
+        return configurationLoader.getMessageTable();
+    }
+
     /**
      * Retrieves the maintenance settings for the plugin.
      *
@@ -269,6 +346,42 @@ public class Nexus {
         return configurationLoader.getReports();
     }
 
+    /**
+     * Retrieves the manager for building and caching the server list ping responses.
+     *
+     * @return The PingResponseManager instance.
+     */
+    public PingResponseManager getPingResponseManager() {
+        return pingResponseManager;
+    }
+
+    /**
+     * Retrieves the manager for rate limiting the server list pings.
+     *
+     * @return The PingLimitManager instance.
+     */
+    public PingLimitManager getPingLimitManager() {
+        return pingLimitManager;
+    }
+
+    /**
+     * Retrieves the manager for collecting server list ping statistics.
+     *
+     * @return The PingAnalyticsManager instance.
+     */
+    public PingAnalyticsManager getPingAnalyticsManager() {
+        return pingAnalyticsManager;
+    }
+
+    /**
+     * Retrieves the manager for maintaining the players shown in the server list ping.
+     *
+     * @return The SamplePlayerManager instance.
+     */
+    public SamplePlayerManager getSamplePlayerManager() {
+        return samplePlayerManager;
+    }
+
     /**
      * Retrieves the manager for tracking online staff members.
      *
@@ -278,6 +391,43 @@ public class Nexus {
         return staffManager;
     }
 
+    /**
+     * Retrieves the manager for tracking the players holding each broadcast permission.
+     *
+     * @return The AudienceManager instance.
+     */
+    public AudienceManager getAudienceManager() {
+        return audienceManager;
+    }
+
+    /**
+     * Retrieves the manager for delivering messages to many players.
+     *
+     * @return The BroadcastManager instance.
+     */
+    public BroadcastManager getBroadcastManager() {
+        return broadcastManager;
+    }
+
+    /**
+     * Retrieves the manager for resolving the message table of each player.
+     *
+     * @return The LocaleManager instance.
+     */
+    public LocaleManager getLocaleManager() {
+        return localeManager;
+    }
+
+    /**
+     * Retrieves the registry of the placeholders available to message formats.
+     * Other plugins can register their own placeholders here.
+     *
+     * @return The PlaceholderRegistry instance.
+     */
+    public PlaceholderRegistry getPlaceholderRegistry() {
+        return placeholderRegistry;
+    }
+
     /**
      * Retrieves the manager for handling lobby server status and selection.
      *
@@ -287,6 +437,15 @@ public class Nexus {
         return lobbyServerManager;
     }
 
+    /**
+     * Retrieves the manager for redirecting the players kicked from a lobby server.
+     *
+     * @return The LobbyQueueManager instance.
+     */
+    public LobbyQueueManager getLobbyQueueManager() {
+        return lobbyQueueManager;
+    }
+
     /**
      * Retrieves the prefix helper for managing player prefixes.
      *
@@ -2,7 +2,9 @@ package io.github.tavstaldev.nexus.command;
 
 import com.velocitypowered.api.proxy.Player;
 import io.github.tavstaldev.nexus.Nexus;
+import io.github.tavstaldev.nexus.config.MessageKey;
 import io.github.tavstaldev.nexus.managers.CustomChatManager;
+import io.github.tavstaldev.nexus.placeholder.PlaceholderContext;
 import io.github.tavstaldev.nexus.util.ChatUtil;
 import io.github.tavstaldev.nexus.util.MessageUtil;
 
@@ -50,14 +52,14 @@ public class CustomChatCommand extends CommandBase {
 
         // Ensure the command source is a player.
         if (!(source instanceof Player player)) {
-            MessageUtil.sendRichMsg(source, Nexus.plugin.getMessages().getGeneralPlayerOnly());
+            MessageUtil.sendRichMsg(source, MessageKey.GENERAL_PLAYER_ONLY);
             return;
         }
 
         // Retrieve the custom chat configuration by name.
         var customChat = Nexus.plugin.getConfig().getCustomChatByName(chatName);
         if (customChat == null) {
-            MessageUtil.sendRichMsg(source, Nexus.plugin.getMessages().getGeneralErrorOccurred());
+            MessageUtil.sendRichMsg(source, MessageKey.GENERAL_ERROR_OCCURRED);
             return;
         }
 
@@ -66,7 +68,7 @@ public class CustomChatCommand extends CommandBase {
         // Handle the case where no message is provided.
         if (args.length < 1) {
             if (!customChat.isAllowToggle()) {
-                MessageUtil.sendRichMsg(source, Nexus.plugin.getMessages().getGeneralCommandSyntax(), Map.of(
+                MessageUtil.sendRichMsg(source, MessageKey.GENERAL_COMMAND_SYNTAX, Map.of(
                         "syntax", this.syntax,
                         "command", this.baseCommand
                 ));
@@ -84,14 +86,17 @@ public class CustomChatCommand extends CommandBase {
 
         // Build the message to be sent to the custom chat channel.
         var message = String.join(" ", args);
-        var msg = ChatUtil.buildMessage(format, Map.of(
-                "player", player.getUsername(),
-                "message", message
-        ));
+        var msg = ChatUtil.buildMessage(format, PlaceholderContext.of(player)
+                .with("message", message));
 
         // Send the message to all players in the custom chat channel.
-        Nexus.plugin.getProxy().getAllPlayers().stream()
-                .filter(otherPlayer -> (!requiredPermission || otherPlayer.hasPermission(chatPermission)) || otherPlayer.equals(player))
-                .forEach(otherPlayer -> otherPlayer.sendMessage(msg));
+        if (!requiredPermission) {
+            Nexus.plugin.getBroadcastManager().broadcast(Nexus.plugin.getProxy().getAllPlayers(), msg);
+            return;
+        }
+        var members = Nexus.plugin.getAudienceManager().getMembers(chatPermission);
+        Nexus.plugin.getBroadcastManager().broadcast(members, msg);
+        if (!members.contains(player))
+            player.sendMessage(msg);
     }
 }
\ No newline at end of file
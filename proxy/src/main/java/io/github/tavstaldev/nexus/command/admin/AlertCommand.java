@@ -1,7 +1,10 @@
 package io.github.tavstaldev.nexus.command.admin;
 
+import com.velocitypowered.api.proxy.Player;
 import io.github.tavstaldev.nexus.Nexus;
 import io.github.tavstaldev.nexus.command.CommandBase;
+import io.github.tavstaldev.nexus.config.MessageKey;
+import io.github.tavstaldev.nexus.placeholder.PlaceholderContext;
 import io.github.tavstaldev.nexus.util.ChatUtil;
 import io.github.tavstaldev.nexus.util.MessageUtil;
 
@@ -43,7 +46,7 @@ public class AlertCommand extends CommandBase {
 
         // Check if no arguments are provided and send a syntax error message.
         if (invocation.arguments().length == 0) {
-            MessageUtil.sendRichMsg(source, Nexus.plugin.getMessages().getGeneralCommandSyntax(), Map.of(
+            MessageUtil.sendRichMsg(source, MessageKey.GENERAL_COMMAND_SYNTAX, Map.of(
                     "syntax", this.syntax,
                     "command", this.baseCommand
             ));
@@ -54,12 +57,10 @@ public class AlertCommand extends CommandBase {
         var config = Nexus.plugin.getConfig().getAlert();
         String message = String.join(" ", invocation.arguments());
         String format = config.getFormat();
-        var msg = ChatUtil.buildMessage(format, Map.of(
-                "message", message
-        ));
+        var context = source instanceof Player player ? PlaceholderContext.of(player) : PlaceholderContext.empty();
+        var msg = ChatUtil.buildMessage(format, context.with("message", message));
 
         // Broadcast the formatted message to all players.
-        Nexus.plugin.getProxy().getAllPlayers()
-                .forEach(otherPlayer -> otherPlayer.sendMessage(msg));
+        Nexus.plugin.getBroadcastManager().broadcast(Nexus.plugin.getProxy().getAllPlayers(), msg);
     }
 }
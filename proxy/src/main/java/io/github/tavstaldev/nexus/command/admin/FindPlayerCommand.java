@@ -2,6 +2,7 @@ package io.github.tavstaldev.nexus.command.admin;
 
 import io.github.tavstaldev.nexus.Nexus;
 import io.github.tavstaldev.nexus.command.CommandBase;
+import io.github.tavstaldev.nexus.config.MessageKey;
 import io.github.tavstaldev.nexus.util.MessageUtil;
 
 import java.util.ArrayList;
@@ -43,7 +44,7 @@ public class FindPlayerCommand extends CommandBase {
 
         // Check if the correct number of arguments is provided.
         if (invocation.arguments().length != 1) {
-            MessageUtil.sendRichMsg(source, Nexus.plugin.getMessages().getGeneralCommandSyntax(), Map.of(
+            MessageUtil.sendRichMsg(source, MessageKey.GENERAL_COMMAND_SYNTAX, Map.of(
                     "syntax", this.syntax,
                     "command", this.baseCommand
             ));
@@ -56,18 +57,18 @@ public class FindPlayerCommand extends CommandBase {
 
         // Handle the case where the player is not found.
         if (player == null) {
-            MessageUtil.sendRichMsg(source, Nexus.plugin.getMessages().getGeneralPlayerNotFound());
+            MessageUtil.sendRichMsg(source, MessageKey.GENERAL_PLAYER_NOT_FOUND);
             return;
         }
 
         // Retrieve the server the player is currently on.
         var server = player.getCurrentServer().orElse(null);
         if (server == null) {
-            MessageUtil.sendRichMsg(source, Nexus.plugin.getMessages().getFindPlayerUnknown(), Map.of(
+            MessageUtil.sendRichMsg(source, MessageKey.FIND_PLAYER_UNKNOWN, Map.of(
                     "player", player.getUsername()
             ));
         } else {
-            MessageUtil.sendRichMsg(source, Nexus.plugin.getMessages().getFindPlayerFormat(), Map.of(
+            MessageUtil.sendRichMsg(source, MessageKey.FIND_PLAYER_FORMAT, Map.of(
                     "player", player.getUsername(),
                     "server", server.getServer().getServerInfo().getName()
             ));
@@ -3,8 +3,8 @@ package io.github.tavstaldev.nexus.command.admin;
 import com.velocitypowered.api.proxy.Player;
 import io.github.tavstaldev.nexus.Nexus;
 import io.github.tavstaldev.nexus.command.CommandBase;
+import io.github.tavstaldev.nexus.config.MessageKey;
 import io.github.tavstaldev.nexus.config.maintenance.MaintenancePlayer;
-import io.github.tavstaldev.nexus.util.ChatUtil;
 import io.github.tavstaldev.nexus.util.MessageUtil;
 
 import java.util.ArrayList;
@@ -43,7 +43,7 @@ public class MaintenanceCommand extends CommandBase {
     public void execute(final Invocation invocation) {
         var source = invocation.source();
         if (invocation.arguments().length == 0) {
-            MessageUtil.sendRichMsg(source, Nexus.plugin.getMessages().getGeneralCommandSyntax(), Map.of(
+            MessageUtil.sendRichMsg(source, MessageKey.GENERAL_COMMAND_SYNTAX, Map.of(
                     "syntax", this.syntax,
                     "command", this.baseCommand
             ));
@@ -56,7 +56,7 @@ public class MaintenanceCommand extends CommandBase {
             case "add": {
                 // Adds a player to the maintenance whitelist.
                 if (invocation.arguments().length != 2) {
-                    MessageUtil.sendRichMsg(source, Nexus.plugin.getMessages().getGeneralCommandSyntax(), Map.of(
+                    MessageUtil.sendRichMsg(source, MessageKey.GENERAL_COMMAND_SYNTAX, Map.of(
                             "syntax", " add <player>",
                             "command", this.baseCommand
                     ));
@@ -65,7 +65,7 @@ public class MaintenanceCommand extends CommandBase {
 
                 var playerName = invocation.arguments()[1];
                 if (config.isPlayerAllowed(playerName)) {
-                    MessageUtil.sendRichMsg(source, Nexus.plugin.getMessages().getMaintenancePlayerAlreadyAllowed(), Map.of(
+                    MessageUtil.sendRichMsg(source, MessageKey.MAINTENANCE_PLAYER_ALREADY_ALLOWED, Map.of(
                             "player", playerName
                     ));
                     return;
@@ -77,7 +77,7 @@ public class MaintenanceCommand extends CommandBase {
                     config.addPlayer(playerName);
                 }
                 Nexus.plugin.getConfigurationLoader().saveMaintenanceConfig();
-                MessageUtil.sendRichMsg(source, Nexus.plugin.getMessages().getMaintenancePlayerAdded(), Map.of(
+                MessageUtil.sendRichMsg(source, MessageKey.MAINTENANCE_PLAYER_ADDED, Map.of(
                         "player", playerName
                 ));
                 break;
@@ -85,7 +85,7 @@ public class MaintenanceCommand extends CommandBase {
             case "remove": {
                 // Removes a player from the maintenance whitelist.
                 if (invocation.arguments().length != 2) {
-                    MessageUtil.sendRichMsg(source, Nexus.plugin.getMessages().getGeneralCommandSyntax(), Map.of(
+                    MessageUtil.sendRichMsg(source, MessageKey.GENERAL_COMMAND_SYNTAX, Map.of(
                             "syntax", " remove <player>",
                             "command", this.baseCommand
                     ));
@@ -94,7 +94,7 @@ public class MaintenanceCommand extends CommandBase {
 
                 var playerName = invocation.arguments()[1];
                 if (!config.isPlayerAllowed(playerName)) {
-                    MessageUtil.sendRichMsg(source, Nexus.plugin.getMessages().getMaintenancePlayerNotAllowed(), Map.of(
+                    MessageUtil.sendRichMsg(source, MessageKey.MAINTENANCE_PLAYER_NOT_ALLOWED, Map.of(
                             "player", playerName
                     ));
                     return;
@@ -102,7 +102,7 @@ public class MaintenanceCommand extends CommandBase {
 
                 config.removePlayer(playerName);
                 Nexus.plugin.getConfigurationLoader().saveMaintenanceConfig();
-                MessageUtil.sendRichMsg(source, Nexus.plugin.getMessages().getMaintenancePlayerRemoved(), Map.of(
+                MessageUtil.sendRichMsg(source, MessageKey.MAINTENANCE_PLAYER_REMOVED, Map.of(
                         "player", playerName
                 ));
                 break;
@@ -116,7 +116,7 @@ public class MaintenanceCommand extends CommandBase {
                         if (page < 1)
                             page = 1;
                     } catch (NumberFormatException e) {
-                        MessageUtil.sendRichMsg(source, Nexus.plugin.getMessages().getGeneralInvalidNumber(), Map.of(
+                        MessageUtil.sendRichMsg(source, MessageKey.GENERAL_INVALID_NUMBER, Map.of(
                                 "number", invocation.arguments()[1]
                         ));
                         return;
@@ -125,7 +125,7 @@ public class MaintenanceCommand extends CommandBase {
 
                 var allowedPlayers = config.getPlayers().toArray(new MaintenancePlayer[0]);
                 if (allowedPlayers.length == 0) {
-                    MessageUtil.sendRichMsg(source, Nexus.plugin.getMessages().getMaintenanceListEmpty());
+                    MessageUtil.sendRichMsg(source, MessageKey.MAINTENANCE_LIST_EMPTY);
                     return;
                 }
 
@@ -134,17 +134,17 @@ public class MaintenanceCommand extends CommandBase {
                 if (page > totalPages)
                     page = totalPages;
 
-                MessageUtil.sendRichMsg(source, Nexus.plugin.getMessages().getMaintenanceListHeader());
+                MessageUtil.sendRichMsg(source, MessageKey.MAINTENANCE_LIST_HEADER);
                 for (int i = 0; i < itemsPerPage; i++) {
                     int index = (page - 1) * itemsPerPage + i;
                     if (index >= allowedPlayers.length)
                         break;
                     String playerName = allowedPlayers[index].getName();
-                    MessageUtil.sendRichMsg(source, Nexus.plugin.getMessages().getMaintenanceListFormat(), Map.of(
+                    MessageUtil.sendRichMsg(source, MessageKey.MAINTENANCE_LIST_FORMAT, Map.of(
                             "player", playerName
                     ));
                 }
-                MessageUtil.sendRichMsg(source, Nexus.plugin.getMessages().getMaintenanceListFooter(), Map.of(
+                MessageUtil.sendRichMsg(source, MessageKey.MAINTENANCE_LIST_FOOTER, Map.of(
                         "current", page,
                         "max", totalPages
                 ));
@@ -153,7 +153,7 @@ public class MaintenanceCommand extends CommandBase {
             case "on": {
                 // Enables maintenance mode.
                 if (config.isEnabled()) {
-                    MessageUtil.sendRichMsg(source, Nexus.plugin.getMessages().getMaintenanceAlreadyEnabled());
+                    MessageUtil.sendRichMsg(source, MessageKey.MAINTENANCE_ALREADY_ENABLED);
                     return;
                 }
 
@@ -164,34 +164,36 @@ public class MaintenanceCommand extends CommandBase {
                     }
                 }
                 Nexus.plugin.getConfigurationLoader().saveMaintenanceConfig();
-                MessageUtil.sendRichMsg(source, Nexus.plugin.getMessages().getMaintenanceEnabled());
+                Nexus.plugin.getPingResponseManager().setMaintenance(true);
+                MessageUtil.sendRichMsg(source, MessageKey.MAINTENANCE_ENABLED);
                 break;
             }
             case "off": {
                 // Disables maintenance mode.
                 if (!config.isEnabled()) {
-                    MessageUtil.sendRichMsg(source, Nexus.plugin.getMessages().getMaintenanceAlreadyDisabled());
+                    MessageUtil.sendRichMsg(source, MessageKey.MAINTENANCE_ALREADY_DISABLED);
                     return;
                 }
 
                 config.setEnabled(false);
                 Nexus.plugin.getConfigurationLoader().saveMaintenanceConfig();
-                MessageUtil.sendRichMsg(source, Nexus.plugin.getMessages().getMaintenanceDisabled());
+                Nexus.plugin.getPingResponseManager().setMaintenance(false);
+                MessageUtil.sendRichMsg(source, MessageKey.MAINTENANCE_DISABLED);
                 break;
             }
             case "kickall": {
                 // Kicks all players not on the maintenance whitelist.
-                var serializedFormat = ChatUtil.translateColors(String.join("\n", Nexus.plugin.getMessages().getMaintenanceKickMessage()), true);
+                var localeManager = Nexus.plugin.getLocaleManager();
                 for (var player : Nexus.plugin.getProxy().getAllPlayers()) {
                     if (!config.isPlayerAllowed(player)) {
-                        player.disconnect(serializedFormat);
+                        player.disconnect(localeManager.getMessageTable(player).get(MessageKey.MAINTENANCE_KICK_MESSAGE));
                     }
                 }
                 break;
             }
             default: {
                 // Handles invalid subcommands.
-                MessageUtil.sendRichMsg(source, Nexus.plugin.getMessages().getGeneralCommandSyntax(), Map.of(
+                MessageUtil.sendRichMsg(source, MessageKey.GENERAL_COMMAND_SYNTAX, Map.of(
                         "syntax", this.syntax,
                         "command", this.baseCommand
                 ));
@@ -2,6 +2,7 @@ package io.github.tavstaldev.nexus.command.admin;
 
 import io.github.tavstaldev.nexus.Nexus;
 import io.github.tavstaldev.nexus.command.CommandBase;
+import io.github.tavstaldev.nexus.config.MessageKey;
 import io.github.tavstaldev.nexus.util.MessageUtil;
 
 import java.util.ArrayList;
@@ -40,7 +41,7 @@ public class SendPlayerCommand extends CommandBase {
 
         // Check if the correct number of arguments is provided.
         if (invocation.arguments().length != 2) {
-            MessageUtil.sendRichMsg(source, Nexus.plugin.getMessages().getGeneralCommandSyntax(), Map.of(
+            MessageUtil.sendRichMsg(source, MessageKey.GENERAL_COMMAND_SYNTAX, Map.of(
                     "syntax", this.syntax,
                     "command", this.baseCommand
             ));
@@ -51,7 +52,7 @@ public class SendPlayerCommand extends CommandBase {
         var playerName = invocation.arguments()[0];
         var targetPlayer = Nexus.plugin.getProxy().getPlayer(playerName).orElse(null);
         if (targetPlayer == null) {
-            MessageUtil.sendRichMsg(source, Nexus.plugin.getMessages().getGeneralPlayerNotFound());
+            MessageUtil.sendRichMsg(source, MessageKey.GENERAL_PLAYER_NOT_FOUND);
             return;
         }
 
@@ -59,25 +60,31 @@ public class SendPlayerCommand extends CommandBase {
         var serverName = invocation.arguments()[1];
         var server = Nexus.plugin.getProxy().getServer(serverName).orElse(null);
         if (server == null) {
-            MessageUtil.sendRichMsg(source, Nexus.plugin.getMessages().getGeneralInvalidServer(), Map.of(
+            MessageUtil.sendRichMsg(source, MessageKey.GENERAL_INVALID_SERVER, Map.of(
                     "server", serverName
             ));
             return;
         }
 
-        // Notify the target player and the command source about the server transfer.
-        MessageUtil.sendRichMsg(targetPlayer, Nexus.plugin.getMessages().getSendPlayerTarget(), Map.of(
-                "server", server.getServerInfo().getName())
-        );
-        MessageUtil.sendRichMsg(source, Nexus.plugin.getMessages().getSendPlayerSender(), Map.of(
-                "player", targetPlayer.getUsername(),
-                "server", server.getServerInfo().getName()
-        ));
+        // Connect the player and report the outcome to the command source.
+        targetPlayer.createConnectionRequest(server).connect().exceptionally(ex -> null).thenAccept(result -> {
+            if (result == null || !result.isSuccessful()) {
+                MessageUtil.sendRichMsg(source, MessageKey.SEND_PLAYER_FAILED, Map.of(
+                        "player", targetPlayer.getUsername(),
+                        "server", server.getServerInfo().getName()
+                ));
+                return;
+            }
 
-        // Schedule the server transfer task.
-        Nexus.plugin.getProxy().getScheduler().buildTask(Nexus.plugin, () -> {
-            targetPlayer.createConnectionRequest(server).fireAndForget();
-        }).schedule();
+            // Notify the target player and the command source about the server transfer.
+            MessageUtil.sendRichMsg(targetPlayer, MessageKey.SEND_PLAYER_TARGET, Map.of(
+                    "server", server.getServerInfo().getName())
+            );
+            MessageUtil.sendRichMsg(source, MessageKey.SEND_PLAYER_SENDER, Map.of(
+                    "player", targetPlayer.getUsername(),
+                    "server", server.getServerInfo().getName()
+            ));
+        });
     }
 
     /**
@@ -5,6 +5,8 @@ import com.google.common.cache.CacheBuilder;
 import com.velocitypowered.api.proxy.Player;
 import io.github.tavstaldev.nexus.Nexus;
 import io.github.tavstaldev.nexus.command.CommandBase;
+import io.github.tavstaldev.nexus.config.MessageKey;
+import io.github.tavstaldev.nexus.placeholder.PlaceholderContext;
 import io.github.tavstaldev.nexus.util.ChatUtil;
 import io.github.tavstaldev.nexus.util.MessageUtil;
 import org.jetbrains.annotations.NotNull;
@@ -59,13 +61,13 @@ public class HelpopCommand extends CommandBase {
 
         // Ensure the command source is a player.
         if (!(source instanceof Player player)) {
-            MessageUtil.sendRichMsg(source, Nexus.plugin.getMessages().getGeneralPlayerOnly());
+            MessageUtil.sendRichMsg(source, MessageKey.GENERAL_PLAYER_ONLY);
             return;
         }
 
         // Ensure the command has arguments.
         if (invocation.arguments().length == 0) {
-            MessageUtil.sendRichMsg(source, Nexus.plugin.getMessages().getGeneralCommandSyntax(), Map.of(
+            MessageUtil.sendRichMsg(source, MessageKey.GENERAL_COMMAND_SYNTAX, Map.of(
                     "syntax", this.syntax,
                     "command", this.baseCommand
             ));
@@ -81,7 +83,7 @@ public class HelpopCommand extends CommandBase {
             if (nextAllowedUseTime != null) {
                 if (LocalDateTime.now().isBefore(nextAllowedUseTime)) {
                     long timeLeft = Duration.between(LocalDateTime.now(), nextAllowedUseTime).getSeconds();
-                    MessageUtil.sendRichMsg(source, Nexus.plugin.getMessages().getGeneralCooldown(), Map.of(
+                    MessageUtil.sendRichMsg(source, MessageKey.GENERAL_COOLDOWN, Map.of(
                             "time", String.valueOf(timeLeft)
                     ));
                     return;
@@ -94,16 +96,16 @@ public class HelpopCommand extends CommandBase {
         // Build the help request message.
         String message = String.join(" ", invocation.arguments());
         String format = config.getFormat();
-        var msg = ChatUtil.buildMessage(format, Map.of(
-                "player", player.getUsername(),
-                "server", player.getCurrentServer().isPresent() ? player.getCurrentServer().get().getServerInfo().getName() : "?????",
-                "message", message
-        ));
+        var context = PlaceholderContext.of(player)
+                .with("message", message);
+        if (context.getServer() == null)
+            context.with("server", "?????");
+        var msg = ChatUtil.buildMessage(format, context);
 
         // Send the message to staff members and the player.
-        String staffPermission = config.getStaffPermission();
-        Nexus.plugin.getProxy().getAllPlayers().stream()
-                .filter(otherPlayer -> otherPlayer.hasPermission(staffPermission) || otherPlayer.equals(player))
-                .forEach(otherPlayer -> otherPlayer.sendMessage(msg));
+        var staffMembers = Nexus.plugin.getAudienceManager().getMembers(config.getStaffPermission());
+        Nexus.plugin.getBroadcastManager().broadcast(staffMembers, msg);
+        if (!staffMembers.contains(player))
+            player.sendMessage(msg);
     }
 }
\ No newline at end of file
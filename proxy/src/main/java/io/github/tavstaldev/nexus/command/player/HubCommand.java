@@ -3,6 +3,7 @@ package io.github.tavstaldev.nexus.command.player;
 import com.velocitypowered.api.proxy.Player;
 import io.github.tavstaldev.nexus.Nexus;
 import io.github.tavstaldev.nexus.command.CommandBase;
+import io.github.tavstaldev.nexus.config.MessageKey;
 import io.github.tavstaldev.nexus.util.MessageUtil;
 
 import java.util.Map;
@@ -11,6 +12,7 @@ import java.util.Map;
  * The HubCommand class handles the "hub" command, which teleports players
  * to the hub or lobby server. It includes checks to ensure the player is not
  * already on the hub server and handles cases where the hub server is not set.
+ * If the chosen lobby server does not accept the player, the next best lobby server is tried.
  */
 public class HubCommand extends CommandBase {
 
@@ -39,7 +41,7 @@ public class HubCommand extends CommandBase {
 
         // Ensure the command source is a player.
         if (!(source instanceof Player player)) {
-            MessageUtil.sendRichMsg(source, Nexus.plugin.getMessages().getGeneralPlayerOnly());
+            MessageUtil.sendRichMsg(source, MessageKey.GENERAL_PLAYER_ONLY);
             return;
         }
 
@@ -47,21 +49,22 @@ public class HubCommand extends CommandBase {
         var lobbyManager = Nexus.plugin.getLobbyServerManager();
         var server = player.getCurrentServer().orElse(null);
         if (server != null && lobbyManager.isLobbyServer(server.getServer())) {
-            MessageUtil.sendRichMsg(player, Nexus.plugin.getMessages().getLobbyAlreadyIn());
+            MessageUtil.sendRichMsg(player, MessageKey.LOBBY_ALREADY_IN);
             return;
         }
 
         // Retrieve the hub server and handle cases where it is not set.
         var lobbyServer = lobbyManager.getLobbyServer();
         if (lobbyServer == null) {
-            MessageUtil.sendRichMsg(player, Nexus.plugin.getMessages().getLobbyNotSet());
+            MessageUtil.sendRichMsg(player, MessageKey.LOBBY_NOT_SET);
             return;
         }
 
-        // Notify the player about the teleportation and schedule the server transfer task.
-        MessageUtil.sendRichMsg(player, Nexus.plugin.getMessages().getLobbyTeleporting(), Map.of("server", lobbyServer.getServerInfo().getName()));
-        Nexus.plugin.getProxy().getScheduler().buildTask(Nexus.plugin, () -> {
-            player.createConnectionRequest(lobbyServer).fireAndForget();
-        }).schedule();
+        // Notify the player about the teleportation and connect them, failing over to the other lobby servers.
+        MessageUtil.sendRichMsg(player, MessageKey.LOBBY_TELEPORTING, Map.of("server", lobbyServer.getServerInfo().getName()));
+        lobbyManager.connectToLobby(player, lobbyServer).thenAccept(result -> {
+            if (result == null || !result.isSuccessful())
+                MessageUtil.sendRichMsg(player, MessageKey.LOBBY_CONNECT_FAILED);
+        });
     }
 }
\ No newline at end of file
@@ -3,23 +3,37 @@ package io.github.tavstaldev.nexus.command.player;
 import io.github.tavstaldev.nexus.Nexus;
 import io.github.tavstaldev.nexus.NexusConstants;
 import io.github.tavstaldev.nexus.command.CommandBase;
+import io.github.tavstaldev.nexus.config.MessageKey;
+import io.github.tavstaldev.nexus.models.LobbyServerState;
 import io.github.tavstaldev.nexus.util.MessageUtil;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * The NexusCommand class handles the "nexus" command, which serves as the main
  * command for the Nexus plugin. It displays plugin information such as the version
- * and other details to the command source.
+ * and other details to the command source, and provides the administrative subcommands.
  */
 public class NexusCommand extends CommandBase {
+    // The permission required to view the ping statistics.
+    private static final String PING_STATS_PERMISSION = "nexus.command.pingstats";
+
+    // The number of heaviest pinging addresses shown in the ping statistics.
+    private static final int PING_STATS_TOP_ADDRESSES = 10;
+
+    // The permission required to view the status of the lobby servers.
+    private static final String SERVERS_PERMISSION = "nexus.command.servers";
 
     /**
      * Constructs a NexusCommand instance with predefined command details.
      */
     public NexusCommand() {
         super("nexus",
-                "",
+                "[pingstats|servers]",
                 "Main command for Nexus plugin.",
                 "",
                 new String[]{"nex"}
@@ -27,8 +41,8 @@ public class NexusCommand extends CommandBase {
     }
 
     /**
-     * Executes the "nexus" command. Sends the plugin information, including the
-     * header, body (with version), and footer, to the command source.
+     * Executes the "nexus" command. Without arguments, sends the plugin information, including the
+     * header, body (with version), and footer, to the command source. Otherwise, runs the given subcommand.
      *
      * @param invocation The invocation context of the command, containing the source
      *                   and arguments.
@@ -37,10 +51,24 @@ public class NexusCommand extends CommandBase {
     public void execute(final Invocation invocation) {
         var source = invocation.source();
 
+        if (invocation.arguments().length > 0) {
+            if (invocation.arguments()[0].equalsIgnoreCase("pingstats")) {
+                sendPingStats(invocation);
+            } else if (invocation.arguments()[0].equalsIgnoreCase("servers")) {
+                sendServerStatus(invocation);
+            } else {
+                MessageUtil.sendRichMsg(source, MessageKey.GENERAL_COMMAND_SYNTAX, Map.of(
+                        "syntax", this.syntax,
+                        "command", this.baseCommand
+                ));
+            }
+            return;
+        }
+
         // Retrieve the plugin information messages.
-        var header = Nexus.plugin.getMessages().getNexusInfoHeader();
-        var body = Nexus.plugin.getMessages().getNexusInfoContent();
-        var footer = Nexus.plugin.getMessages().getNexusInfoFooter();
+        var header = MessageKey.NEXUS_INFO_HEADER;
+        var body = MessageKey.NEXUS_INFO_CONTENT;
+        var footer = MessageKey.NEXUS_INFO_FOOTER;
 
         // Send the header, body (with version), and footer to the command source.
         MessageUtil.sendRichMsg(source, header);
@@ -48,4 +76,142 @@ public class NexusCommand extends CommandBase {
                 "version", NexusConstants.VERSION));
         MessageUtil.sendRichMsg(source, footer);
     }
-}
\ No newline at end of file
+
+    /**
+     * Provides asynchronous suggestions for the "nexus" command.
+     * Subcommands are only suggested to sources allowed to use them.
+     *
+     * @param invocation The invocation context of the command, containing the source
+     *                   and arguments.
+     * @return A CompletableFuture containing a list of suggested subcommands.
+     */
+    @Override
+    public CompletableFuture<List<String>> suggestAsync(Invocation invocation) {
+        var args = invocation.arguments();
+        if (args.length > 1)
+            return super.suggestAsync(invocation);
+
+        List<String> commandList = new ArrayList<>();
+        if (invocation.source().hasPermission(PING_STATS_PERMISSION))
+            commandList.add("pingstats");
+        if (invocation.source().hasPermission(SERVERS_PERMISSION))
+            commandList.add("servers");
+        if (args.length == 1)
+            commandList.removeIf(cmd -> !cmd.startsWith(args[0].toLowerCase()));
+        return CompletableFuture.completedFuture(commandList);
+    }
+
+    /**
+     * Sends the server list ping statistics to the command source, including the unique
+     * addresses, the heaviest pinging addresses and the client versions.
+     *
+     * @param invocation The invocation context of the command.
+     */
+    private void sendPingStats(final Invocation invocation) {
+        var source = invocation.source();
+        if (!source.hasPermission(PING_STATS_PERMISSION)) {
+            MessageUtil.sendRichMsg(source, MessageKey.GENERAL_NO_PERMISSION);
+            return;
+        }
+
+        var analytics = Nexus.plugin.getPingAnalyticsManager();
+        var limiter = Nexus.plugin.getPingLimitManager();
+        MessageUtil.sendRichMsg(source, MessageKey.PING_STATS_HEADER);
+        MessageUtil.sendRichMsg(source, MessageKey.PING_STATS_CONTENT, Map.of(
+                "pings", analytics.getPingCount(),
+                "rejected_address", limiter.getRejectedByAddressCount(),
+                "rejected_network", limiter.getRejectedByNetworkCount(),
+                "unique_minute", analytics.getUniqueAddressesThisMinute(),
+                "unique_last_minute", analytics.getUniqueAddressesLastMinute(),
+                "unique_hour", analytics.getUniqueAddressesLastHour()
+        ));
+
+        var topAddresses = analytics.getTopAddresses(PING_STATS_TOP_ADDRESSES);
+        if (!topAddresses.isEmpty()) {
+            MessageUtil.sendRichMsg(source, MessageKey.PING_STATS_TOP_HEADER);
+            for (var entry : topAddresses) {
+                MessageUtil.sendRichMsg(source, MessageKey.PING_STATS_TOP_FORMAT, Map.of(
+                        "address", entry.getKey().getHostAddress(),
+                        "count", entry.getValue()
+                ));
+            }
+        }
+
+        var protocols = analytics.getProtocolCounts();
+        if (!protocols.isEmpty()) {
+            MessageUtil.sendRichMsg(source, MessageKey.PING_STATS_PROTOCOL_HEADER);
+            for (var entry : protocols.entrySet()) {
+                MessageUtil.sendRichMsg(source, MessageKey.PING_STATS_PROTOCOL_FORMAT, Map.of(
+                        "version", entry.getKey().getVersionIntroducedIn(),
+                        "protocol", entry.getKey().getProtocol(),
+                        "count", entry.getValue()
+                ));
+            }
+        }
+        MessageUtil.sendRichMsg(source, MessageKey.PING_STATS_FOOTER);
+    }
+
+    /**
+     * Sends the status of the tracked lobby servers to the command source, including the
+     * round-trip time percentiles and the availability of their recent health checks.
+     *
+     * @param invocation The invocation context of the command.
+     */
+    private void sendServerStatus(final Invocation invocation) {
+        var source = invocation.source();
+        if (!source.hasPermission(SERVERS_PERMISSION)) {
+            MessageUtil.sendRichMsg(source, MessageKey.GENERAL_NO_PERMISSION);
+            return;
+        }
+
+        var states = new ArrayList<>(Nexus.plugin.getLobbyServerManager().getServerStates());
+        states.sort(Comparator.comparing(state -> state.getServer().getServerInfo().getName()));
+        MessageUtil.sendRichMsg(source, MessageKey.SERVER_STATUS_HEADER);
+        if (states.isEmpty())
+            MessageUtil.sendRichMsg(source, MessageKey.SERVER_STATUS_EMPTY);
+
+        long now = System.currentTimeMillis();
+        for (LobbyServerState state : states) {
+            double availability = state.getAvailability();
+            MessageUtil.sendRichMsg(source, state.isAvailable() ? MessageKey.SERVER_STATUS_AVAILABLE_FORMAT : MessageKey.SERVER_STATUS_UNAVAILABLE_FORMAT, Map.of(
+                    "server", state.getServer().getServerInfo().getName(),
+                    "players", state.getPlayerCount(),
+                    "capacity", state.getCapacity() > 0 ? String.valueOf(state.getCapacity()) : "?",
+                    "p50", formatLatency(state.getLatencyPercentile(0.5)),
+                    "p99", formatLatency(state.getLatencyPercentile(0.99)),
+                    "availability", availability < 0 ? "-" : String.format("%.1f%%", availability * 100),
+                    "changed", state.getLastStateChange() == 0L ? "never" : formatElapsed(now - state.getLastStateChange())
+            ));
+        }
+        MessageUtil.sendRichMsg(source, MessageKey.SERVER_STATUS_FOOTER);
+    }
+
+    /**
+     * Formats a round-trip time for the server status.
+     *
+     * @param micros The round-trip time in microseconds, or a negative value if unknown.
+     * @return The round-trip time in milliseconds, or "-" if unknown.
+     */
+    private static String formatLatency(long micros) {
+        if (micros < 0)
+            return "-";
+        return String.format("%.1fms", micros / 1000D);
+    }
+
+    /**
+     * Formats the time elapsed since an event for the server status.
+     *
+     * @param millis The elapsed time, in milliseconds.
+     * @return The elapsed time, e.g. "1h 5m ago".
+     */
+    private static String formatElapsed(long millis) {
+        long seconds = Math.max(0L, millis / 1000L);
+        if (seconds < 60)
+            return seconds + "s ago";
+        if (seconds < 3600)
+            return (seconds / 60) + "m " + (seconds % 60) + "s ago";
+        if (seconds < 86400)
+            return (seconds / 3600) + "h " + (seconds / 60 % 60) + "m ago";
+        return (seconds / 86400) + "d " + (seconds / 3600 % 24) + "h ago";
+    }
+}
@@ -5,7 +5,9 @@ import com.google.common.cache.CacheBuilder;
 import com.velocitypowered.api.proxy.Player;
 import io.github.tavstaldev.nexus.Nexus;
 import io.github.tavstaldev.nexus.command.CommandBase;
+import io.github.tavstaldev.nexus.config.MessageKey;
 import io.github.tavstaldev.nexus.config.reporting.Report;
+import io.github.tavstaldev.nexus.placeholder.PlaceholderContext;
 import io.github.tavstaldev.nexus.util.ChatUtil;
 import io.github.tavstaldev.nexus.util.MessageUtil;
 import org.jetbrains.annotations.NotNull;
@@ -61,7 +63,7 @@ public class ReportCommand extends CommandBase {
 
         // Ensure the command source is a player.
         if (!(source instanceof Player player)) {
-            MessageUtil.sendRichMsg(source, Nexus.plugin.getMessages().getGeneralPlayerOnly());
+            MessageUtil.sendRichMsg(source, MessageKey.GENERAL_PLAYER_ONLY);
             return;
         }
 
@@ -69,7 +71,7 @@ public class ReportCommand extends CommandBase {
 
         // Ensure the correct number of arguments is provided.
         if (args.length < 2) {
-            MessageUtil.sendRichMsg(source, Nexus.plugin.getMessages().getGeneralCommandSyntax(), Map.of(
+            MessageUtil.sendRichMsg(source, MessageKey.GENERAL_COMMAND_SYNTAX, Map.of(
                     "syntax", this.syntax,
                     "command", this.baseCommand)
             );
@@ -79,7 +81,7 @@ public class ReportCommand extends CommandBase {
         // Retrieve the reported player from the arguments.
         Player reported = Nexus.plugin.getProxy().getPlayer(args[0]).orElse(null);
         if (reported == null) {
-            MessageUtil.sendRichMsg(source, Nexus.plugin.getMessages().getGeneralPlayerNotFound(), Map.of(
+            MessageUtil.sendRichMsg(source, MessageKey.GENERAL_PLAYER_NOT_FOUND, Map.of(
                     "player", args[0]
             ));
             return;
@@ -87,7 +89,7 @@ public class ReportCommand extends CommandBase {
 
         // Prevent players from reporting themselves.
         if (reported.equals(player)) {
-            MessageUtil.sendRichMsg(source, Nexus.plugin.getMessages().getPlayerReportSelf());
+            MessageUtil.sendRichMsg(source, MessageKey.PLAYER_REPORT_SELF);
             return;
         }
 
@@ -96,7 +98,7 @@ public class ReportCommand extends CommandBase {
 
         // Prevent reporting players with bypass permission.
         if (reported.hasPermission(config.getBypassPermission())) {
-            MessageUtil.sendRichMsg(source, Nexus.plugin.getMessages().getPlayerReportBypass());
+            MessageUtil.sendRichMsg(source, MessageKey.PLAYER_REPORT_BYPASS);
             return;
         }
 
@@ -106,7 +108,7 @@ public class ReportCommand extends CommandBase {
             if (nextAllowedUseTime != null) {
                 if (LocalDateTime.now().isBefore(nextAllowedUseTime)) {
                     long timeLeft = Duration.between(LocalDateTime.now(), nextAllowedUseTime).getSeconds();
-                    MessageUtil.sendRichMsg(source, Nexus.plugin.getMessages().getGeneralCooldown(), Map.of(
+                    MessageUtil.sendRichMsg(source, MessageKey.GENERAL_COOLDOWN, Map.of(
                             "time", String.valueOf(timeLeft)
                     ));
                     return;
@@ -125,20 +127,16 @@ public class ReportCommand extends CommandBase {
         String serverName = player.getCurrentServer().isPresent() ? player.getCurrentServer().get().getServerInfo().getName() : "?????";
 
         // Save the report in the configuration.
-        Nexus.plugin.getReportData().add(new Report(reporterName, player.getUniqueId(), reportedName, reported.getUniqueId(), reason, serverName, System.currentTimeMillis()));
+        var report = new Report(reporterName, player.getUniqueId(), reportedName, reported.getUniqueId(), reason, serverName, System.currentTimeMillis());
+        Nexus.plugin.getReportData().add(report);
         Nexus.plugin.getConfigurationLoader().saveReports();
 
         // Notify staff members and the reporting player about the report.
-        var msg = ChatUtil.buildMessage(format, Map.of(
-                "player", reporterName,
-                "reported", reportedName,
-                "server", serverName,
-                "reason", reason
-        ));
-        String staffPermission = config.getNotifyPermission();
-        Nexus.plugin.getProxy().getAllPlayers().stream()
-                .filter(otherPlayer -> otherPlayer.hasPermission(staffPermission) || otherPlayer.equals(player))
-                .forEach(otherPlayer -> otherPlayer.sendMessage(msg));
+        var msg = ChatUtil.buildMessage(format, PlaceholderContext.of(player).withReport(report));
+        var staffMembers = Nexus.plugin.getAudienceManager().getMembers(config.getNotifyPermission());
+        Nexus.plugin.getBroadcastManager().broadcast(staffMembers, msg);
+        if (!staffMembers.contains(player))
+            player.sendMessage(msg);
     }
 
     /**
@@ -2,6 +2,8 @@ package io.github.tavstaldev.nexus.command.staff;
 
 import io.github.tavstaldev.nexus.Nexus;
 import io.github.tavstaldev.nexus.command.CommandBase;
+import io.github.tavstaldev.nexus.config.MessageKey;
+import io.github.tavstaldev.nexus.placeholder.PlaceholderContext;
 import io.github.tavstaldev.nexus.util.MessageUtil;
 
 import java.util.ArrayList;
@@ -44,7 +46,7 @@ public class ReportListCommand extends CommandBase {
                 if (page < 1)
                     page = 1;
             } catch (NumberFormatException e) {
-                MessageUtil.sendRichMsg(source, Nexus.plugin.getMessages().getGeneralInvalidNumber(), Map.of(
+                MessageUtil.sendRichMsg(source, MessageKey.GENERAL_INVALID_NUMBER, Map.of(
                         "number", invocation.arguments()[0]
                 ));
                 return;
@@ -54,7 +56,7 @@ public class ReportListCommand extends CommandBase {
         // Retrieve the list of active reports.
         var reports = new ArrayList<>(Nexus.plugin.getReports());
         if (reports.isEmpty()) {
-            MessageUtil.sendRichMsg(source, Nexus.plugin.getMessages().getPlayerReportEmpty());
+            MessageUtil.sendRichMsg(source, MessageKey.PLAYER_REPORT_EMPTY);
             return;
         }
 
@@ -65,7 +67,7 @@ public class ReportListCommand extends CommandBase {
             page = totalPages;
 
         // Send the header message.
-        MessageUtil.sendRichMsg(source, Nexus.plugin.getMessages().getPlayerReportHeader());
+        MessageUtil.sendRichMsg(source, MessageKey.PLAYER_REPORT_HEADER);
 
         // Display the reports for the current page.
         for (int i = 0; i < itemsPerPage; i++) {
@@ -73,15 +75,11 @@ public class ReportListCommand extends CommandBase {
             if (index >= reports.size())
                 break;
             var report = reports.get(index);
-            MessageUtil.sendRichMsg(source, Nexus.plugin.getMessages().getPlayerReportFormat(), Map.of(
-                    "player", report.getReporterName(),
-                    "reason", report.getReason(),
-                    "reported", report.getTargetName()
-            ));
+            MessageUtil.sendRichMsg(source, MessageKey.PLAYER_REPORT_FORMAT, PlaceholderContext.empty().withReport(report));
         }
 
         // Send the footer message with pagination details.
-        MessageUtil.sendRichMsg(source, Nexus.plugin.getMessages().getPlayerReportFooter(), Map.of(
+        MessageUtil.sendRichMsg(source, MessageKey.PLAYER_REPORT_FOOTER, Map.of(
                 "current", page,
                 "max", totalPages
         ));
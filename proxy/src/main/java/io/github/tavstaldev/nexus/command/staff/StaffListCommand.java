@@ -2,6 +2,7 @@ package io.github.tavstaldev.nexus.command.staff;
 
 import io.github.tavstaldev.nexus.Nexus;
 import io.github.tavstaldev.nexus.command.CommandBase;
+import io.github.tavstaldev.nexus.config.MessageKey;
 import io.github.tavstaldev.nexus.util.MessageUtil;
 
 import java.util.Map;
@@ -39,19 +40,19 @@ public final class StaffListCommand extends CommandBase {
 
         // Check if the source has the required permission.
         if (!source.hasPermission(this.permission)) {
-            MessageUtil.sendRichMsg(source, Nexus.plugin.getMessages().getGeneralNoPermission());
+            MessageUtil.sendRichMsg(source, MessageKey.GENERAL_NO_PERMISSION);
             return;
         }
 
         // Retrieve the header, footer, and list of online staff members.
-        var header = Nexus.plugin.getMessages().getStaffListHeader();
-        var footer = Nexus.plugin.getMessages().getStaffListFooter();
+        var header = MessageKey.STAFF_LIST_HEADER;
+        var footer = MessageKey.STAFF_LIST_FOOTER;
         var staffs = Nexus.plugin.getStaffManager().getOnlineStaff();
 
         // Handle the case where no staff members are online.
         if (staffs.isEmpty()) {
             MessageUtil.sendRichMsg(source, header);
-            MessageUtil.sendRichMsg(source, Nexus.plugin.getMessages().getStaffListNoStaff());
+            MessageUtil.sendRichMsg(source, MessageKey.STAFF_LIST_NO_STAFF);
             MessageUtil.sendRichMsg(source, footer);
             return;
         }
@@ -60,7 +61,7 @@ public final class StaffListCommand extends CommandBase {
         MessageUtil.sendRichMsg(source, header);
 
         // Format and send the list of online staff members.
-        var staffEntry = Nexus.plugin.getMessages().getStaffListFormat();
+        var staffEntry = MessageKey.STAFF_LIST_FORMAT;
         var prefixHelper = Nexus.plugin.getPrefixHelper();
         for (var staff : staffs) {
             MessageUtil.sendRichMsg(source, staffEntry, Map.of(
@@ -3,12 +3,20 @@ package io.github.tavstaldev.nexus.config;
 import io.github.tavstaldev.nexus.Nexus;
 import io.github.tavstaldev.nexus.config.reporting.Report;
 import io.github.tavstaldev.nexus.logger.PluginLogger;
+import io.github.tavstaldev.nexus.util.ChatUtil;
 import org.spongepowered.configurate.CommentedConfigurationNode;
+import org.spongepowered.configurate.ConfigurationNode;
 import org.spongepowered.configurate.gson.GsonConfigurationLoader;
 import org.spongepowered.configurate.yaml.NodeStyle;
 import org.spongepowered.configurate.yaml.YamlConfigurationLoader;
 
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Set;
 
 public class ConfigurationLoader {
@@ -21,6 +29,8 @@ public class ConfigurationLoader {
     private MaintenanceSettings maintenanceSettings;
     private ReportData reportData;
     private Messages messages;
+    private Map<Locale, Messages> localeMessages = Map.of();
+    private volatile LocalizedMessageTables messageTables;
 
     public ConfigurationLoader() {
         this.logger = Nexus.plugin.getLogger().withModule(this.getClass());
@@ -50,11 +60,15 @@ public class ConfigurationLoader {
             if (settings == null) {
                 this.settings = new Settings();
                 saveConfig();
+                compileSettingsTemplates();
+                buildMessageTable();
                 logger.error("Failed to load config.yml, using default settings.");
                 return;
             }
             this.settings = settings;
             loader.save(node);
+            compileSettingsTemplates();
+            buildMessageTable();
             logger.info("Loaded config.yml successfully.");
         } catch (Exception e) {
             logger.error("Failed to load config.yml: \n" + e.getMessage());
@@ -157,12 +171,16 @@ public class ConfigurationLoader {
             if (settings == null) {
                 this.messages = new Messages();
                 saveMessages();
+                this.localeMessages = Map.of();
+                buildMessageTable();
                 logger.error("Failed to load messages.yml, using default settings.");
                 return;
             }
             this.messages = settings;
             loader.save(node);
             logger.info("Loaded messages.yml successfully.");
+            this.localeMessages = loadLocaleMessages(node);
+            buildMessageTable();
         } catch (Exception e) {
             logger.error("Failed to load messages.yml: \n" + e.getMessage());
         }
@@ -182,6 +200,78 @@ public class ConfigurationLoader {
         }
     }
 
+    /**
+     * Compiles the broadcast formats of config.yml into message templates,
+     * so they are not parsed again for every message sent.
+     */
+    private void compileSettingsTemplates() {
+        ChatUtil.precompile(
+                settings.getAlert().getFormat(),
+                settings.getHelpop().getFormat(),
+                settings.getPlayerReport().getFormat()
+        );
+        for (var customChat : settings.getCustomChats()) {
+            ChatUtil.precompile(customChat.getFormat());
+        }
+    }
+
+    /**
+     * Loads the messages_&lt;locale&gt;.yml files of the data folder. Entries missing from a locale file
+     * are taken from messages.yml. The locale files are only read, never rewritten.
+     *
+     * @param defaultNode The loaded node of messages.yml.
+     * @return A map of locales to their messages.
+     */
+    private Map<Locale, Messages> loadLocaleMessages(ConfigurationNode defaultNode) {
+        final Map<Locale, Messages> result = new HashMap<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(MESSAGES_PATH.getParent(), "messages_*.yml")) {
+            for (Path file : files) {
+                final String fileName = file.getFileName().toString();
+                final String tag = fileName.substring("messages_".length(), fileName.length() - ".yml".length());
+                final Locale locale = Locale.forLanguageTag(tag.replace('_', '-'));
+                if (locale.getLanguage().isEmpty()) {
+                    logger.warn("Skipping " + fileName + ", '" + tag + "' is not a valid locale.");
+                    continue;
+                }
+
+                try {
+                    final ConfigurationNode node = YamlConfigurationLoader.builder()
+                            .path(file)
+                            .build()
+                            .load();
+                    node.mergeFrom(defaultNode);
+                    final Messages localized = node.get(Messages.class);
+                    if (localized == null) {
+                        logger.error("Failed to load " + fileName + ".");
+                        continue;
+                    }
+                    result.put(locale, localized);
+                    logger.info("Loaded " + fileName + " successfully.");
+                } catch (Exception e) {
+                    logger.error("Failed to load " + fileName + ": \n" + e.getMessage());
+                }
+            }
+        } catch (IOException e) {
+            logger.error("Failed to list the localized message files: \n" + e.getMessage());
+        }
+        return result;
+    }
+
+    /**
+     * Compiles the messages of every locale into new MessageTables and publishes them with a single write,
+     * so readers never see a partially built set of tables.
+     */
+    private void buildMessageTable() {
+        if (settings == null || messages == null)
+            return;
+        final String prefix = settings.getPrefix();
+        final Map<Locale, MessageTable> tables = new HashMap<>();
+        for (var entry : localeMessages.entrySet()) {
+            tables.put(entry.getKey(), MessageTable.build(entry.getValue(), prefix));
+        }
+        this.messageTables = new LocalizedMessageTables(MessageTable.build(messages, prefix), tables);
+    }
+
     public Settings getSettings() {
         return settings;
     }
@@ -201,4 +291,12 @@ public class ConfigurationLoader {
     public Messages getMessages() {
         return messages;
     }
+
+    public MessageTable getMessageTable() {
+        return messageTables.getDefault();
+    }
+
+    public LocalizedMessageTables getMessageTables() {
+        return messageTables;
+    }
 }
@@ -0,0 +1,69 @@
+package io.github.tavstaldev.nexus.config;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The LocalizedMessageTables class holds the compiled message table of every configured locale,
+ * next to the default table compiled from messages.yml.
+ * The tables are immutable, reloading the messages builds and publishes a new instance.
+ */
+public final class LocalizedMessageTables {
+    // The table compiled from messages.yml, used when no locale specific table matches.
+    private final MessageTable defaultTable;
+
+    // The tables compiled from the messages_<locale>.yml files, keyed by their locale.
+    private final Map<Locale, MessageTable> tables;
+
+    /**
+     * Constructs a LocalizedMessageTables instance.
+     *
+     * @param defaultTable The table compiled from messages.yml.
+     * @param tables       The tables of the configured locales.
+     */
+    public LocalizedMessageTables(@NotNull MessageTable defaultTable, @NotNull Map<Locale, MessageTable> tables) {
+        this.defaultTable = defaultTable;
+        this.tables = Map.copyOf(tables);
+    }
+
+    /**
+     * Resolves the table of a locale. An exact match is preferred, then a table of the same language,
+     * and finally the default table.
+     *
+     * @param locale The locale of the player, or null if it is not known yet.
+     * @return The best matching MessageTable.
+     */
+    public MessageTable resolve(@Nullable Locale locale) {
+        if (locale == null || tables.isEmpty())
+            return defaultTable;
+
+        MessageTable table = tables.get(locale);
+        if (table != null)
+            return table;
+
+        table = tables.get(Locale.of(locale.getLanguage()));
+        return table != null ? table : defaultTable;
+    }
+
+    /**
+     * Retrieves the table compiled from messages.yml.
+     *
+     * @return The default MessageTable.
+     */
+    public MessageTable getDefault() {
+        return defaultTable;
+    }
+
+    /**
+     * Retrieves the locales that have their own table.
+     *
+     * @return The configured locales.
+     */
+    public Set<Locale> getLocales() {
+        return tables.keySet();
+    }
+}
@@ -0,0 +1,103 @@
+package io.github.tavstaldev.nexus.config;
+
+import java.util.function.Function;
+
+/**
+ * The MessageKey enum lists every entry of the messages configuration.
+ * The ordinal of a key is its index in the precompiled MessageTable, so messages
+ * are looked up by array index instead of by name.
+ */
+public enum MessageKey {
+    GENERAL_NO_PERMISSION(Messages::getGeneralNoPermission),
+    GENERAL_PLAYER_NOT_FOUND(Messages::getGeneralPlayerNotFound),
+    GENERAL_CONSOLE_ONLY(Messages::getGeneralConsoleOnly),
+    GENERAL_PLAYER_ONLY(Messages::getGeneralPlayerOnly),
+    GENERAL_INVALID_SYNTAX(Messages::getGeneralInvalidSyntax),
+    GENERAL_ERROR_OCCURRED(Messages::getGeneralErrorOccurred),
+    GENERAL_RELOAD_COMPLETE(Messages::getGeneralReloadComplete),
+    GENERAL_COMMAND_SYNTAX(Messages::getGeneralCommandSyntax),
+    GENERAL_FEATURE_DISABLED(Messages::getGeneralFeatureDisabled),
+    GENERAL_COOLDOWN(Messages::getGeneralCooldown),
+    GENERAL_INVALID_SERVER(Messages::getGeneralInvalidServer),
+    GENERAL_INVALID_NUMBER(Messages::getGeneralInvalidNumber),
+    CUSTOM_CHAT_NO_PERMISSION(Messages::getCustomChatNoPermission),
+    CUSTOM_CHAT_TOGGLE_ON(Messages::getCustomChatToggleOn),
+    CUSTOM_CHAT_TOGGLE_OFF(Messages::getCustomChatToggleOff),
+    CUSTOM_CHAT_SWITCHED_TO(Messages::getCustomChatSwitchedTo),
+    MAINTENANCE_ALREADY_ENABLED(Messages::getMaintenanceAlreadyEnabled),
+    MAINTENANCE_ALREADY_DISABLED(Messages::getMaintenanceAlreadyDisabled),
+    MAINTENANCE_ENABLED(Messages::getMaintenanceEnabled),
+    MAINTENANCE_DISABLED(Messages::getMaintenanceDisabled),
+    MAINTENANCE_KICK_MESSAGE(messages -> String.join("\n", messages.getMaintenanceKickMessage())),
+    MAINTENANCE_PLAYER_ADDED(Messages::getMaintenancePlayerAdded),
+    MAINTENANCE_PLAYER_REMOVED(Messages::getMaintenancePlayerRemoved),
+    MAINTENANCE_PLAYER_ALREADY_ALLOWED(Messages::getMaintenancePlayerAlreadyAllowed),
+    MAINTENANCE_PLAYER_NOT_ALLOWED(Messages::getMaintenancePlayerNotAllowed),
+    MAINTENANCE_LIST_EMPTY(Messages::getMaintenanceListEmpty),
+    MAINTENANCE_LIST_FORMAT(Messages::getMaintenanceListFormat),
+    MAINTENANCE_LIST_HEADER(Messages::getMaintenanceListHeader),
+    MAINTENANCE_LIST_FOOTER(Messages::getMaintenanceListFooter),
+    STAFF_JOIN_MESSAGE(Messages::getStaffJoinMessage),
+    STAFF_LEAVE_MESSAGE(Messages::getStaffLeaveMessage),
+    STAFF_SWITCH(Messages::getStaffSwitch),
+    STAFF_LIST_HEADER(Messages::getStaffListHeader),
+    STAFF_LIST_FOOTER(Messages::getStaffListFooter),
+    STAFF_LIST_NO_STAFF(Messages::getStaffListNoStaff),
+    STAFF_LIST_FORMAT(Messages::getStaffListFormat),
+    NEXUS_INFO_HEADER(Messages::getNexusInfoHeader),
+    NEXUS_INFO_FOOTER(Messages::getNexusInfoFooter),
+    NEXUS_INFO_CONTENT(Messages::getNexusInfoContent),
+    PING_STATS_HEADER(Messages::getPingStatsHeader),
+    PING_STATS_FOOTER(Messages::getPingStatsFooter),
+    PING_STATS_CONTENT(Messages::getPingStatsContent),
+    PING_STATS_TOP_HEADER(Messages::getPingStatsTopHeader),
+    PING_STATS_TOP_FORMAT(Messages::getPingStatsTopFormat),
+    PING_STATS_PROTOCOL_HEADER(Messages::getPingStatsProtocolHeader),
+    PING_STATS_PROTOCOL_FORMAT(Messages::getPingStatsProtocolFormat),
+    SERVER_STATUS_HEADER(Messages::getServerStatusHeader),
+    SERVER_STATUS_FOOTER(Messages::getServerStatusFooter),
+    SERVER_STATUS_EMPTY(Messages::getServerStatusEmpty),
+    SERVER_STATUS_AVAILABLE_FORMAT(Messages::getServerStatusAvailableFormat),
+    SERVER_STATUS_UNAVAILABLE_FORMAT(Messages::getServerStatusUnavailableFormat),
+    PLAYER_REPORT_SELF(Messages::getPlayerReportSelf),
+    PLAYER_REPORT_BYPASS(Messages::getPlayerReportBypass),
+    PLAYER_REPORT_EMPTY(Messages::getPlayerReportEmpty),
+    PLAYER_REPORT_COUNT(Messages::getPlayerReportCount),
+    PLAYER_REPORT_HEADER(Messages::getPlayerReportHeader),
+    PLAYER_REPORT_FOOTER(Messages::getPlayerReportFooter),
+    PLAYER_REPORT_FORMAT(Messages::getPlayerReportFormat),
+    FIND_PLAYER_FORMAT(Messages::getFindPlayerFormat),
+    FIND_PLAYER_UNKNOWN(Messages::getFindPlayerUnknown),
+    SEND_PLAYER_TARGET(Messages::getSendPlayerTarget),
+    SEND_PLAYER_SENDER(Messages::getSendPlayerSender),
+    SEND_PLAYER_FAILED(Messages::getSendPlayerFailed),
+    LOBBY_NOT_SET(Messages::getLobbyNotSet),
+    LOBBY_ALREADY_IN(Messages::getLobbyAlreadyIn),
+    LOBBY_TELEPORTING(Messages::getLobbyTeleporting),
+    LOBBY_CONNECT_RETRY(Messages::getLobbyConnectRetry),
+    LOBBY_CONNECT_FAILED(Messages::getLobbyConnectFailed),
+    LOBBY_QUEUE_POSITION(Messages::getLobbyQueuePosition),
+    LOBBY_QUEUE_REDIRECTED(Messages::getLobbyQueueRedirected);
+
+    // The accessor used to read the raw message from the Messages configuration.
+    private final Function<Messages, String> accessor;
+
+    /**
+     * Constructs a MessageKey with the accessor of its raw message.
+     *
+     * @param accessor The accessor used to read the raw message.
+     */
+    MessageKey(Function<Messages, String> accessor) {
+        this.accessor = accessor;
+    }
+
+    /**
+     * Reads the raw message of this key from the given Messages configuration.
+     *
+     * @param messages The Messages configuration.
+     * @return The raw message.
+     */
+    public String getRaw(Messages messages) {
+        return accessor.apply(messages);
+    }
+}
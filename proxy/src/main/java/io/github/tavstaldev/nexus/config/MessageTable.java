@@ -0,0 +1,94 @@
+package io.github.tavstaldev.nexus.config;
+
+import io.github.tavstaldev.nexus.Nexus;
+import io.github.tavstaldev.nexus.placeholder.PlaceholderContext;
+import io.github.tavstaldev.nexus.util.ChatUtil;
+import io.github.tavstaldev.nexus.util.MessageTemplate;
+import net.kyori.adventure.text.Component;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Map;
+
+/**
+ * The MessageTable class holds every entry of the messages configuration in its compiled form.
+ * Messages are compiled into templates and, with the configured prefix filled in, pre-rendered
+ * into components once, so sending a constant message does not parse anything.
+ * A table is immutable, reloading the messages builds and publishes a new one.
+ */
+public final class MessageTable {
+    // The compiled templates, indexed by the ordinal of their MessageKey.
+    private final MessageTemplate[] templates;
+
+    // The pre-rendered components, indexed by the ordinal of their MessageKey.
+    private final Component[] components;
+
+    // The default placeholder values, holding the configured prefix.
+    private final Map<String, Component> defaults;
+
+    /**
+     * Constructs a MessageTable instance.
+     *
+     * @param templates  The compiled templates, indexed by key ordinal.
+     * @param components The pre-rendered components, indexed by key ordinal.
+     * @param defaults   The default placeholder values.
+     */
+    private MessageTable(MessageTemplate[] templates, Component[] components, Map<String, Component> defaults) {
+        this.templates = templates;
+        this.components = components;
+        this.defaults = defaults;
+    }
+
+    /**
+     * Compiles every entry of the given messages configuration into a new table.
+     *
+     * @param messages The messages configuration.
+     * @param prefix   The configured message prefix, filled in for %prefix%.
+     * @return The compiled MessageTable.
+     */
+    public static MessageTable build(@NotNull Messages messages, @NotNull String prefix) {
+        var keys = MessageKey.values();
+        var templates = new MessageTemplate[keys.length];
+        var components = new Component[keys.length];
+        var defaults = Map.of("prefix", ChatUtil.translateColors(prefix, true));
+        for (MessageKey key : keys) {
+            var template = MessageTemplate.compile(key.getRaw(messages));
+            templates[key.ordinal()] = template;
+            components[key.ordinal()] = template.render(Map.of(), defaults);
+        }
+        return new MessageTable(templates, components, defaults);
+    }
+
+    /**
+     * Retrieves the pre-rendered component of a message.
+     *
+     * @param key The key of the message.
+     * @return The pre-rendered Component.
+     */
+    public Component get(@NotNull MessageKey key) {
+        return components[key.ordinal()];
+    }
+
+    /**
+     * Renders a message with the provided parameters. The configured prefix is used for
+     * %prefix% unless the parameters contain a value for it.
+     *
+     * @param key        The key of the message.
+     * @param parameters A map of placeholder keys and their corresponding replacement values.
+     * @return A Component representing the formatted message.
+     */
+    public Component render(@NotNull MessageKey key, @NotNull Map<String, ?> parameters) {
+        return templates[key.ordinal()].render(parameters, defaults);
+    }
+
+    /**
+     * Renders a message for a placeholder context. The configured prefix is used for
+     * %prefix% unless the context resolves a value for it.
+     *
+     * @param key     The key of the message.
+     * @param context The context of the message.
+     * @return A Component representing the formatted message.
+     */
+    public Component render(@NotNull MessageKey key, @NotNull PlaceholderContext context) {
+        return templates[key.ordinal()].render(context, Nexus.plugin.getPlaceholderRegistry(), defaults);
+    }
+}
@@ -225,6 +225,72 @@ public class Messages {
     }
     //#endregion
 
+    //#region Ping Statistics
+    private String pingStatsHeader = "&8&m          &r &b&lPing Statistics &8&m          ";
+    private String pingStatsFooter = "&8&m                                        ";
+    private String pingStatsContent = "&7Pings: &b%pings% &8(&c%rejected_address% &7rejected by address, &c%rejected_network% &7by network&8)\n&7Unique addresses: &b%unique_minute% &7this minute, &b%unique_last_minute% &7last minute, &b%unique_hour% &7last hour";
+    private String pingStatsTopHeader = "&7Heaviest addresses:";
+    private String pingStatsTopFormat = "&8- &e%address%&8: &b%count% &7pings";
+    private String pingStatsProtocolHeader = "&7Client versions:";
+    private String pingStatsProtocolFormat = "&8- &e%version% &8(&7%protocol%&8): &b%count% &7pings";
+
+    public String getPingStatsHeader() {
+        return pingStatsHeader;
+    }
+
+    public String getPingStatsFooter() {
+        return pingStatsFooter;
+    }
+
+    public String getPingStatsContent() {
+        return pingStatsContent;
+    }
+
+    public String getPingStatsTopHeader() {
+        return pingStatsTopHeader;
+    }
+
+    public String getPingStatsTopFormat() {
+        return pingStatsTopFormat;
+    }
+
+    public String getPingStatsProtocolHeader() {
+        return pingStatsProtocolHeader;
+    }
+
+    public String getPingStatsProtocolFormat() {
+        return pingStatsProtocolFormat;
+    }
+    //#endregion
+
+    //#region Server Status
+    private String serverStatusHeader = "&8&m          &r &b&lLobby Servers &8&m          ";
+    private String serverStatusFooter = "&8&m                                        ";
+    private String serverStatusEmpty = "&7No lobby servers are tracked.";
+    private String serverStatusAvailableFormat = "&a● &f%server% &8(&b%players%&7/&b%capacity%&8)\n  &7p50 &b%p50% &8| &7p99 &b%p99% &8| &7availability &b%availability% &8| &7changed &b%changed%";
+    private String serverStatusUnavailableFormat = "&c● &f%server% &8(&coffline&8)\n  &7p50 &b%p50% &8| &7p99 &b%p99% &8| &7availability &b%availability% &8| &7changed &b%changed%";
+
+    public String getServerStatusHeader() {
+        return serverStatusHeader;
+    }
+
+    public String getServerStatusFooter() {
+        return serverStatusFooter;
+    }
+
+    public String getServerStatusEmpty() {
+        return serverStatusEmpty;
+    }
+
+    public String getServerStatusAvailableFormat() {
+        return serverStatusAvailableFormat;
+    }
+
+    public String getServerStatusUnavailableFormat() {
+        return serverStatusUnavailableFormat;
+    }
+    //#endregion
+
     //#region Player Report
     private String playerReportSelf = "%prefix% &cYou cannot report yourself.";
     private String playerReportBypass = "%prefix% &cYou cannot report this player.";
@@ -279,18 +345,26 @@ public class Messages {
     //#region Player Send
     private String sendPlayerTarget = "%prefix% &aYou have been sent to &e%server%&a.";
     private String sendPlayerSender = "%prefix% &aYou have sent &e%player% &ato &e%server%&a.";
+    private String sendPlayerFailed = "%prefix% &cCould not send &e%player% &cto &e%server%&c.";
     public String getSendPlayerTarget() {
         return sendPlayerTarget;
     }
     public String getSendPlayerSender() {
         return sendPlayerSender;
     }
+    public String getSendPlayerFailed() {
+        return sendPlayerFailed;
+    }
     //#endregion
 
     //#region Lobby
     private String lobbyNotSet = "%prefix% &cNo lobby server is set.";
     private String lobbyAlreadyIn = "%prefix% &cYou are already in a lobby server.";
     private String lobbyTeleporting = "%prefix% &aConnecting you to %server%...";
+    private String lobbyConnectRetry = "%prefix% &e%failed% is not responding, connecting you to %server%...";
+    private String lobbyConnectFailed = "%prefix% &cCould not connect you to a lobby server, please try again later.";
+    private String lobbyQueuePosition = "%prefix% &eYour lobby went down. You are &6#%position% &eof &6%total% &ein the queue for another lobby.";
+    private String lobbyQueueRedirected = "%prefix% &aYour lobby went down, you have been moved to another lobby.";
     public String getLobbyNotSet() {
         return lobbyNotSet;
     }
@@ -300,5 +374,17 @@ public class Messages {
     public String getLobbyTeleporting() {
         return lobbyTeleporting;
     }
+    public String getLobbyConnectRetry() {
+        return lobbyConnectRetry;
+    }
+    public String getLobbyConnectFailed() {
+        return lobbyConnectFailed;
+    }
+    public String getLobbyQueuePosition() {
+        return lobbyQueuePosition;
+    }
+    public String getLobbyQueueRedirected() {
+        return lobbyQueueRedirected;
+    }
     //#endregion
 }
\ No newline at end of file
@@ -1,6 +1,8 @@
 package io.github.tavstaldev.nexus.config;
 
 import io.github.tavstaldev.nexus.config.main.*;
+import io.github.tavstaldev.nexus.config.main.pinger.MaintenancePingConfig;
+import io.github.tavstaldev.nexus.config.main.pinger.PingLimiterConfig;
 import io.github.tavstaldev.nexus.config.main.pinger.ServerFavIconConfig;
 import io.github.tavstaldev.nexus.config.main.pinger.ServerMotdConfig;
 import io.github.tavstaldev.nexus.config.main.pinger.ServerSpooferConfig;
@@ -17,6 +19,12 @@ public class Settings {
 
     private final Set<String> lobbyServers;
 
+    private final LobbyHealthConfig lobbyHealth;
+
+    private final LobbyBalancingConfig lobbyBalancing;
+
+    private final LobbyRedirectConfig lobbyRedirect;
+
     private final AntiCrashHandlerConfig antiCrashHandler;
 
     private final AlertConfig alert;
@@ -29,10 +37,15 @@ public class Settings {
 
     private final ServerPingerConfig serverPinger;
 
+    private final BroadcastConfig broadcast;
+
     public Settings() {
         this.debug = false;
         this.prefix = "&3Nexus &8»&r";
         this.lobbyServers = Set.of("lobby", "lobby2");
+        this.lobbyHealth = new LobbyHealthConfig();
+        this.lobbyBalancing = new LobbyBalancingConfig();
+        this.lobbyRedirect = new LobbyRedirectConfig();
         this.antiCrashHandler = new AntiCrashHandlerConfig();
         this.alert = new AlertConfig(
                 true,
@@ -80,22 +93,31 @@ public class Settings {
                 ));
         this.serverPinger = new ServerPingerConfig(
                 true,
-                List.of(new ServerMotdConfig(new ServerFavIconConfig(), "&b&lExample &8[&31.21.х&8]", "&8> &7Welcome to the &bExample&7 network!")),
+                List.of(new ServerMotdConfig(null, "&b&lExample &8[&31.21.х&8]", "&8> &7Welcome to the &bExample&7 network!")),
                 new ServerSpooferConfig(),
-                new ServerFavIconConfig()
+                new ServerFavIconConfig(),
+                1000,
+                new PingLimiterConfig(),
+                List.of(),
+                new MaintenancePingConfig()
         );
+        this.broadcast = new BroadcastConfig();
     }
 
-    public Settings(boolean debug, String prefix, Set<String> lobbyServers, AntiCrashHandlerConfig antiCrashHandler, AlertConfig alert, PlayerReportConfig playerReport, HelpopConfig helpop, Set<CustomChatConfig> customChats, ServerPingerConfig serverPinger) {
+    public Settings(boolean debug, String prefix, Set<String> lobbyServers, LobbyHealthConfig lobbyHealth, LobbyBalancingConfig lobbyBalancing, LobbyRedirectConfig lobbyRedirect, AntiCrashHandlerConfig antiCrashHandler, AlertConfig alert, PlayerReportConfig playerReport, HelpopConfig helpop, Set<CustomChatConfig> customChats, ServerPingerConfig serverPinger, BroadcastConfig broadcast) {
         this.debug = debug;
         this.prefix = prefix;
         this.lobbyServers = lobbyServers;
+        this.lobbyHealth = lobbyHealth;
+        this.lobbyBalancing = lobbyBalancing;
+        this.lobbyRedirect = lobbyRedirect;
         this.antiCrashHandler = antiCrashHandler;
         this.alert = alert;
         this.playerReport = playerReport;
         this.helpop = helpop;
         this.customChats = customChats;
         this.serverPinger = serverPinger;
+        this.broadcast = broadcast;
     }
 
     public boolean isDebug() {
@@ -110,6 +132,18 @@ public class Settings {
         return lobbyServers;
     }
 
+    public LobbyHealthConfig getLobbyHealth() {
+        return lobbyHealth;
+    }
+
+    public LobbyBalancingConfig getLobbyBalancing() {
+        return lobbyBalancing;
+    }
+
+    public LobbyRedirectConfig getLobbyRedirect() {
+        return lobbyRedirect;
+    }
+
     public AntiCrashHandlerConfig getAntiCrashHandler() {
         return antiCrashHandler;
     }
@@ -142,4 +176,8 @@ public class Settings {
     public ServerPingerConfig getServerPinger() {
         return serverPinger;
     }
+
+    public BroadcastConfig getBroadcast() {
+        return broadcast;
+    }
 }
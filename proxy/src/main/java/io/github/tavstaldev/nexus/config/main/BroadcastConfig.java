@@ -0,0 +1,31 @@
+package io.github.tavstaldev.nexus.config.main;
+
+import org.spongepowered.configurate.objectmapping.ConfigSerializable;
+import org.spongepowered.configurate.objectmapping.meta.Comment;
+
+@SuppressWarnings("FieldMayBeFinal")
+@ConfigSerializable
+public class BroadcastConfig {
+    @Comment("Maximum number of messages queued in the Nexus delivery lane of a single player before low priority messages (e.g. staff join and switch notices) are held back. This limits the backlog of Nexus itself during bursts of broadcasts, it does not detect players on a slow connection.")
+    private int maxQueuedMessages;
+    @Comment("Should held back low priority messages replace the low priority message already queued for the player, instead of being dropped?")
+    private boolean coalesceLowPriority;
+
+    public BroadcastConfig() {
+        maxQueuedMessages = 32;
+        coalesceLowPriority = true;
+    }
+
+    public BroadcastConfig(int maxQueuedMessages, boolean coalesceLowPriority) {
+        this.maxQueuedMessages = maxQueuedMessages;
+        this.coalesceLowPriority = coalesceLowPriority;
+    }
+
+    public int getMaxQueuedMessages() {
+        return maxQueuedMessages;
+    }
+
+    public boolean isCoalesceLowPriority() {
+        return coalesceLowPriority;
+    }
+}
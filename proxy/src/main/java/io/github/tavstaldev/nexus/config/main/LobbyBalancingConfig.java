@@ -0,0 +1,48 @@
+package io.github.tavstaldev.nexus.config.main;
+
+import io.github.tavstaldev.nexus.models.LobbyBalanceStrategy;
+import org.spongepowered.configurate.objectmapping.ConfigSerializable;
+import org.spongepowered.configurate.objectmapping.meta.Comment;
+
+@SuppressWarnings("FieldMayBeFinal")
+@ConfigSerializable
+public class LobbyBalancingConfig {
+    @Comment("How a lobby server is chosen. LEAST_CONNECTIONS picks the lobby with the lowest load, POWER_OF_TWO the less loaded of two random lobbies, FILL_FIRST the fullest lobby below the fill threshold.")
+    private LobbyBalanceStrategy strategy;
+    @Comment("The share of its capacity a lobby is filled up to before FILL_FIRST uses the next one, between 0 and 1.")
+    private double fillThreshold;
+    @Comment("The capacity assumed for lobbies that do not report their maximum player count, e.g. when they are checked with TCP.")
+    private int defaultCapacity;
+    @Comment("How many lobby servers a player is tried to be connected to by /hub, before giving up.")
+    private int maxConnectAttempts;
+
+    public LobbyBalancingConfig() {
+        strategy = LobbyBalanceStrategy.POWER_OF_TWO;
+        fillThreshold = 0.8;
+        defaultCapacity = 100;
+        maxConnectAttempts = 3;
+    }
+
+    public LobbyBalancingConfig(LobbyBalanceStrategy strategy, double fillThreshold, int defaultCapacity, int maxConnectAttempts) {
+        this.strategy = strategy;
+        this.fillThreshold = fillThreshold;
+        this.defaultCapacity = defaultCapacity;
+        this.maxConnectAttempts = maxConnectAttempts;
+    }
+
+    public LobbyBalanceStrategy getStrategy() {
+        return strategy;
+    }
+
+    public double getFillThreshold() {
+        return fillThreshold;
+    }
+
+    public int getDefaultCapacity() {
+        return defaultCapacity;
+    }
+
+    public int getMaxConnectAttempts() {
+        return maxConnectAttempts;
+    }
+}
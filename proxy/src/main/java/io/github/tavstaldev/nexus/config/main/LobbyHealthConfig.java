@@ -0,0 +1,80 @@
+package io.github.tavstaldev.nexus.config.main;
+
+import io.github.tavstaldev.nexus.models.HealthProbeType;
+import org.spongepowered.configurate.objectmapping.ConfigSerializable;
+import org.spongepowered.configurate.objectmapping.meta.Comment;
+
+@SuppressWarnings("FieldMayBeFinal")
+@ConfigSerializable
+public class LobbyHealthConfig {
+    @Comment("How the lobby servers should be checked. PING sends a full server list ping, TCP only opens a connection.")
+    private HealthProbeType probeType;
+    @Comment("How often a stable, available lobby server should be checked, in milliseconds.")
+    private long healthyInterval;
+    @Comment("How often a lobby server should be checked while its state is changing or recently changed, in milliseconds.")
+    private long unstableInterval;
+    @Comment("How long a lobby server is considered unstable after its state changed, in milliseconds.")
+    private long unstableWindow;
+    @Comment("The longest time to wait between two checks of an unavailable lobby server, in milliseconds. The wait doubles after every failed check.")
+    private long maxBackoff;
+    @Comment("How long to wait for a lobby server to answer a check, in milliseconds.")
+    private long probeTimeout;
+    @Comment("How many checks in a row have to fail before a lobby server is marked unavailable.")
+    private int failureThreshold;
+    @Comment("How many checks in a row have to succeed before an unavailable lobby server is marked available again.")
+    private int recoveryThreshold;
+
+    public LobbyHealthConfig() {
+        probeType = HealthProbeType.PING;
+        healthyInterval = 5000;
+        unstableInterval = 500;
+        unstableWindow = 30000;
+        maxBackoff = 60000;
+        probeTimeout = 2000;
+        failureThreshold = 2;
+        recoveryThreshold = 2;
+    }
+
+    public LobbyHealthConfig(HealthProbeType probeType, long healthyInterval, long unstableInterval, long unstableWindow, long maxBackoff, long probeTimeout, int failureThreshold, int recoveryThreshold) {
+        this.probeType = probeType;
+        this.healthyInterval = healthyInterval;
+        this.unstableInterval = unstableInterval;
+        this.unstableWindow = unstableWindow;
+        this.maxBackoff = maxBackoff;
+        this.probeTimeout = probeTimeout;
+        this.failureThreshold = failureThreshold;
+        this.recoveryThreshold = recoveryThreshold;
+    }
+
+    public HealthProbeType getProbeType() {
+        return probeType;
+    }
+
+    public long getHealthyInterval() {
+        return healthyInterval;
+    }
+
+    public long getUnstableInterval() {
+        return unstableInterval;
+    }
+
+    public long getUnstableWindow() {
+        return unstableWindow;
+    }
+
+    public long getMaxBackoff() {
+        return maxBackoff;
+    }
+
+    public long getProbeTimeout() {
+        return probeTimeout;
+    }
+
+    public int getFailureThreshold() {
+        return failureThreshold;
+    }
+
+    public int getRecoveryThreshold() {
+        return recoveryThreshold;
+    }
+}
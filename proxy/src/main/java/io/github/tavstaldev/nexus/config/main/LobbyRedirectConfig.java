@@ -0,0 +1,47 @@
+package io.github.tavstaldev.nexus.config.main;
+
+import org.spongepowered.configurate.objectmapping.ConfigSerializable;
+import org.spongepowered.configurate.objectmapping.meta.Comment;
+
+@SuppressWarnings("FieldMayBeFinal")
+@ConfigSerializable
+public class LobbyRedirectConfig {
+    @Comment("Should players kicked from a lobby server be queued and redirected to the other lobby servers?")
+    private boolean enabled;
+    @Comment("How many queued players may be sent to a single lobby server per second.")
+    private double redirectsPerSecond;
+    @Comment("How many queued players may be sent to a single lobby server at once, before the rate limit applies.")
+    private int redirectBurst;
+    @Comment("How long a player may wait in the queue before the proxy handles the kick itself, in milliseconds. Keep it below the client timeout of 30 seconds.")
+    private long maxQueueWait;
+
+    public LobbyRedirectConfig() {
+        enabled = true;
+        redirectsPerSecond = 5;
+        redirectBurst = 10;
+        maxQueueWait = 20000;
+    }
+
+    public LobbyRedirectConfig(boolean enabled, double redirectsPerSecond, int redirectBurst, long maxQueueWait) {
+        this.enabled = enabled;
+        this.redirectsPerSecond = redirectsPerSecond;
+        this.redirectBurst = redirectBurst;
+        this.maxQueueWait = maxQueueWait;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public double getRedirectsPerSecond() {
+        return redirectsPerSecond;
+    }
+
+    public int getRedirectBurst() {
+        return redirectBurst;
+    }
+
+    public long getMaxQueueWait() {
+        return maxQueueWait;
+    }
+}
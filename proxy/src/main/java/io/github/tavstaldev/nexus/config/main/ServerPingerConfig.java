@@ -1,5 +1,8 @@
 package io.github.tavstaldev.nexus.config.main;
 
+import io.github.tavstaldev.nexus.config.main.pinger.MaintenancePingConfig;
+import io.github.tavstaldev.nexus.config.main.pinger.PingLimiterConfig;
+import io.github.tavstaldev.nexus.config.main.pinger.PingProfileConfig;
 import io.github.tavstaldev.nexus.config.main.pinger.ServerFavIconConfig;
 import io.github.tavstaldev.nexus.config.main.pinger.ServerMotdConfig;
 import io.github.tavstaldev.nexus.config.main.pinger.ServerSpooferConfig;
@@ -22,18 +25,38 @@ public class ServerPingerConfig {
     @Comment("FavIcon settings for the server pinger.")
     private ServerFavIconConfig favIcon;
 
+    @Comment("How long a ping response is reused for the same virtual host and client version, in milliseconds. Set to 0 to build every response.")
+    private int cacheTtl;
+
+    @Comment("Rate limit settings for the server list pings.")
+    private PingLimiterConfig limiter;
+
+    @Comment("Ping profiles for specific virtual hosts and client versions. The first matching profile is used, the settings above are used if none matches.")
+    private List<PingProfileConfig> profiles;
+
+    @Comment("Ping response settings while maintenance mode is enabled.")
+    private MaintenancePingConfig maintenance;
+
     public ServerPingerConfig() {
         this.enabled = true;
         this.motds = List.of(new ServerMotdConfig());
         this.spoofer = new ServerSpooferConfig();
         this.favIcon = new ServerFavIconConfig();
+        this.cacheTtl = 1000;
+        this.limiter = new PingLimiterConfig();
+        this.profiles = List.of();
+        this.maintenance = new MaintenancePingConfig();
     }
 
-    public ServerPingerConfig(boolean enabled, List<ServerMotdConfig> motds, ServerSpooferConfig spoofer, ServerFavIconConfig favIcon) {
+    public ServerPingerConfig(boolean enabled, List<ServerMotdConfig> motds, ServerSpooferConfig spoofer, ServerFavIconConfig favIcon, int cacheTtl, PingLimiterConfig limiter, List<PingProfileConfig> profiles, MaintenancePingConfig maintenance) {
         this.enabled = enabled;
         this.motds = motds;
         this.spoofer = spoofer;
         this.favIcon = favIcon;
+        this.cacheTtl = cacheTtl;
+        this.limiter = limiter;
+        this.profiles = profiles;
+        this.maintenance = maintenance;
     }
 
     public boolean isEnabled() {
@@ -51,4 +74,20 @@ public class ServerPingerConfig {
     public ServerFavIconConfig getFavIcon() {
         return favIcon;
     }
+
+    public int getCacheTtl() {
+        return cacheTtl;
+    }
+
+    public PingLimiterConfig getLimiter() {
+        return limiter;
+    }
+
+    public List<PingProfileConfig> getProfiles() {
+        return profiles;
+    }
+
+    public MaintenancePingConfig getMaintenance() {
+        return maintenance;
+    }
 }
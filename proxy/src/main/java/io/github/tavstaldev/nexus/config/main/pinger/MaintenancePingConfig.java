@@ -0,0 +1,49 @@
+package io.github.tavstaldev.nexus.config.main.pinger;
+
+import org.spongepowered.configurate.objectmapping.ConfigSerializable;
+import org.spongepowered.configurate.objectmapping.meta.Comment;
+
+import java.util.List;
+
+@SuppressWarnings("FieldMayBeFinal")
+@ConfigSerializable
+public class MaintenancePingConfig {
+    @Comment("Should a separate ping response be shown while maintenance mode is enabled?")
+    private boolean enabled;
+    @Comment("Text shown instead of the player count while maintenance mode is enabled. Leave empty to show the player count.")
+    private String versionText;
+    @Comment("MOTDs shown while maintenance mode is enabled.")
+    private List<ServerMotdConfig> motds;
+    @Comment("FavIcon settings while maintenance mode is enabled. If not set, the favicon settings of the server pinger are used.")
+    private ServerFavIconConfig favIcon;
+
+    public MaintenancePingConfig() {
+        this.enabled = true;
+        this.versionText = "&cMaintenance";
+        this.motds = List.of(new ServerMotdConfig(null, "&c&lMaintenance", "&7We are working on the server, please check back later!"));
+        this.favIcon = null;
+    }
+
+    public MaintenancePingConfig(boolean enabled, String versionText, List<ServerMotdConfig> motds, ServerFavIconConfig favIcon) {
+        this.enabled = enabled;
+        this.versionText = versionText;
+        this.motds = motds;
+        this.favIcon = favIcon;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public String getVersionText() {
+        return versionText;
+    }
+
+    public List<ServerMotdConfig> getMotds() {
+        return motds;
+    }
+
+    public ServerFavIconConfig getFavIcon() {
+        return favIcon;
+    }
+}
@@ -0,0 +1,71 @@
+package io.github.tavstaldev.nexus.config.main.pinger;
+
+import org.spongepowered.configurate.objectmapping.ConfigSerializable;
+import org.spongepowered.configurate.objectmapping.meta.Comment;
+
+@SuppressWarnings("FieldMayBeFinal")
+@ConfigSerializable
+public class PingLimiterConfig {
+    @Comment("Should the server list pings be rate limited?")
+    private boolean enabled;
+    @Comment("How many pings a single address may send at once.")
+    private int addressBurst;
+    @Comment("How many pings a single address may send per second on average.")
+    private int addressRate;
+    @Comment("How many pings a /24 (IPv4) or /48 (IPv6) network may send at once.")
+    private int networkBurst;
+    @Comment("How many pings a /24 (IPv4) or /48 (IPv6) network may send per second on average.")
+    private int networkRate;
+    @Comment("How many addresses and networks are remembered. The least recently seen ones are forgotten first.")
+    private int tableSize;
+    @Comment("Should rejected pings be dropped? If false, they get the default response of the proxy instead.")
+    private boolean dropRejected;
+
+    public PingLimiterConfig() {
+        enabled = true;
+        addressBurst = 10;
+        addressRate = 2;
+        networkBurst = 40;
+        networkRate = 10;
+        tableSize = 8192;
+        dropRejected = false;
+    }
+
+    public PingLimiterConfig(boolean enabled, int addressBurst, int addressRate, int networkBurst, int networkRate, int tableSize, boolean dropRejected) {
+        this.enabled = enabled;
+        this.addressBurst = addressBurst;
+        this.addressRate = addressRate;
+        this.networkBurst = networkBurst;
+        this.networkRate = networkRate;
+        this.tableSize = tableSize;
+        this.dropRejected = dropRejected;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public int getAddressBurst() {
+        return addressBurst;
+    }
+
+    public int getAddressRate() {
+        return addressRate;
+    }
+
+    public int getNetworkBurst() {
+        return networkBurst;
+    }
+
+    public int getNetworkRate() {
+        return networkRate;
+    }
+
+    public int getTableSize() {
+        return tableSize;
+    }
+
+    public boolean isDropRejected() {
+        return dropRejected;
+    }
+}
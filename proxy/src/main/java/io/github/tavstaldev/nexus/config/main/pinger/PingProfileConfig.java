@@ -0,0 +1,65 @@
+package io.github.tavstaldev.nexus.config.main.pinger;
+
+import org.spongepowered.configurate.objectmapping.ConfigSerializable;
+import org.spongepowered.configurate.objectmapping.meta.Comment;
+
+import java.util.List;
+
+@SuppressWarnings("FieldMayBeFinal")
+@ConfigSerializable
+public class PingProfileConfig {
+    @Comment("Virtual hosts (the address typed by the player) the profile applies to. If empty, the profile applies to every host.")
+    private List<String> hosts;
+    @Comment("Lowest protocol version the profile applies to, or -1 for no lower limit.")
+    private int minProtocol;
+    @Comment("Highest protocol version the profile applies to, or -1 for no upper limit.")
+    private int maxProtocol;
+    @Comment("MOTDs of the profile. If empty, the MOTDs of the server pinger are used.")
+    private List<ServerMotdConfig> motds;
+    @Comment("FavIcon settings of the profile. If not set, the favicon settings of the server pinger are used.")
+    private ServerFavIconConfig favIcon;
+    @Comment("Spoofer settings of the profile. If not set, the spoofer settings of the server pinger are used.")
+    private ServerSpooferConfig spoofer;
+
+    public PingProfileConfig() {
+        this.hosts = List.of();
+        this.minProtocol = -1;
+        this.maxProtocol = -1;
+        this.motds = List.of();
+        this.favIcon = null;
+        this.spoofer = null;
+    }
+
+    public PingProfileConfig(List<String> hosts, int minProtocol, int maxProtocol, List<ServerMotdConfig> motds, ServerFavIconConfig favIcon, ServerSpooferConfig spoofer) {
+        this.hosts = hosts;
+        this.minProtocol = minProtocol;
+        this.maxProtocol = maxProtocol;
+        this.motds = motds;
+        this.favIcon = favIcon;
+        this.spoofer = spoofer;
+    }
+
+    public List<String> getHosts() {
+        return hosts;
+    }
+
+    public int getMinProtocol() {
+        return minProtocol;
+    }
+
+    public int getMaxProtocol() {
+        return maxProtocol;
+    }
+
+    public List<ServerMotdConfig> getMotds() {
+        return motds;
+    }
+
+    public ServerFavIconConfig getFavIcon() {
+        return favIcon;
+    }
+
+    public ServerSpooferConfig getSpoofer() {
+        return spoofer;
+    }
+}
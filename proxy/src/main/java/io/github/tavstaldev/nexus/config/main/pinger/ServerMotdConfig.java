@@ -1,29 +1,54 @@
 package io.github.tavstaldev.nexus.config.main.pinger;
 
 import org.spongepowered.configurate.objectmapping.ConfigSerializable;
+import org.jetbrains.annotations.Nullable;
+import org.spongepowered.configurate.objectmapping.meta.Comment;
+
+import java.util.List;
 
 @ConfigSerializable
 public class ServerMotdConfig {
+    @Comment("Icon shown with this MOTD. Only used if overrideIcon is true, otherwise the favicon of the server pinger or profile is shown.")
     private final ServerFavIconConfig icon;
+    @Comment("Should the icon above replace the favicon of the server pinger or profile while this MOTD is shown?")
+    private final boolean overrideIcon;
     private final String line1;
     private final String line2;
+    @Comment("Animation frames of the MOTD. If set, the lines above are ignored and the frames are shown one after another.")
+    private final List<ServerMotdFrameConfig> frames;
+    @Comment("How long each animation frame is shown, in milliseconds. Should not be shorter than the cacheTtl of the server pinger.")
+    private final int frameInterval;
 
     public ServerMotdConfig() {
-        this.icon = new ServerFavIconConfig();
+        this.icon = null;
+        this.overrideIcon = false;
         this.line1 = "A Velocity Server";
         this.line2 = "Powered by Nexus";
+        this.frames = List.of();
+        this.frameInterval = 1000;
     }
 
     public ServerMotdConfig(ServerFavIconConfig icon, String line1, String line2) {
+        this(icon, false, line1, line2, List.of(), 1000);
+    }
+
+    public ServerMotdConfig(ServerFavIconConfig icon, boolean overrideIcon, String line1, String line2, List<ServerMotdFrameConfig> frames, int frameInterval) {
         this.icon = icon;
+        this.overrideIcon = overrideIcon;
         this.line1 = line1;
         this.line2 = line2;
+        this.frames = frames;
+        this.frameInterval = frameInterval;
     }
 
-    public ServerFavIconConfig getIcon() {
+    public @Nullable ServerFavIconConfig getIcon() {
         return icon;
     }
 
+    public boolean isOverrideIcon() {
+        return overrideIcon;
+    }
+
     public String getLine1() {
         return line1;
     }
@@ -31,4 +56,12 @@ public class ServerMotdConfig {
     public String getLine2() {
         return line2;
     }
+
+    public List<ServerMotdFrameConfig> getFrames() {
+        return frames;
+    }
+
+    public int getFrameInterval() {
+        return frameInterval;
+    }
 }
@@ -0,0 +1,27 @@
+package io.github.tavstaldev.nexus.config.main.pinger;
+
+import org.spongepowered.configurate.objectmapping.ConfigSerializable;
+
+@ConfigSerializable
+public class ServerMotdFrameConfig {
+    private final String line1;
+    private final String line2;
+
+    public ServerMotdFrameConfig() {
+        this.line1 = "A Velocity Server";
+        this.line2 = "Powered by Nexus";
+    }
+
+    public ServerMotdFrameConfig(String line1, String line2) {
+        this.line1 = line1;
+        this.line2 = line2;
+    }
+
+    public String getLine1() {
+        return line1;
+    }
+
+    public String getLine2() {
+        return line2;
+    }
+}
@@ -14,19 +14,27 @@ public class ServerSpooferConfig {
     private boolean hidePlayerCount;
     @Comment("List of servers to calculate the player count from. If empty, all connected servers will be used.")
     private String[] targetServers;
+    @Comment("How many players should be shown in the player hover list.")
+    private int sampleSize;
+    @Comment("How often the players shown in the player hover list should be rotated, in seconds.")
+    private int sampleRotationInterval;
 
     public ServerSpooferConfig() {
         enabled = false;
         disablePlayerHoverList = false;
         hidePlayerCount = false;
         targetServers = new String[0];
+        sampleSize = 12;
+        sampleRotationInterval = 5;
     }
 
-    public ServerSpooferConfig(boolean enabled, boolean disablePlayerHoverList, boolean hidePlayerCount, String[] targetServers) {
+    public ServerSpooferConfig(boolean enabled, boolean disablePlayerHoverList, boolean hidePlayerCount, String[] targetServers, int sampleSize, int sampleRotationInterval) {
         this.enabled = enabled;
         this.disablePlayerHoverList = disablePlayerHoverList;
         this.hidePlayerCount = hidePlayerCount;
         this.targetServers = targetServers;
+        this.sampleSize = sampleSize;
+        this.sampleRotationInterval = sampleRotationInterval;
     }
 
     public boolean isEnabled() {
@@ -44,4 +52,12 @@ public class ServerSpooferConfig {
     public String[] getTargetServers() {
         return targetServers;
     }
+
+    public int getSampleSize() {
+        return sampleSize;
+    }
+
+    public int getSampleRotationInterval() {
+        return sampleRotationInterval;
+    }
 }
@@ -5,11 +5,10 @@ import com.velocitypowered.api.event.player.PlayerChatEvent;
 import com.velocitypowered.api.proxy.Player;
 import io.github.tavstaldev.nexus.Nexus;
 import io.github.tavstaldev.nexus.managers.CustomChatManager;
+import io.github.tavstaldev.nexus.placeholder.PlaceholderContext;
 import io.github.tavstaldev.nexus.util.ChatUtil;
 import net.kyori.adventure.text.Component;
 
-import java.util.Map;
-
 /**
  * The ChatEventListener class listens for player chat events and handles
  * custom chat functionality, such as toggling chat channels and formatting messages.
@@ -46,17 +45,13 @@ public class ChatEventListener {
         event.setResult(PlayerChatEvent.ChatResult.denied());
 
         // Build the custom chat message using the specified format.
-        Component message = ChatUtil.buildMessage(toggledChat.getFormat(), Map.of(
-                "player", player.getUsername(),
-                "message", event.getMessage()
-        ));
+        Component message = ChatUtil.buildMessage(toggledChat.getFormat(), PlaceholderContext.of(player)
+                .with("message", event.getMessage()));
 
         // Retrieve the permission required to view the custom chat messages.
         var permission = toggledChat.getPermission();
 
         // Send the custom chat message to all players with the required permission.
-        Nexus.plugin.getProxy().getAllPlayers().stream()
-                .filter(x -> x.hasPermission(permission))
-                .forEach(x -> x.sendMessage(message));
+        Nexus.plugin.getBroadcastManager().broadcast(Nexus.plugin.getAudienceManager().getMembers(permission), message);
     }
 }
\ No newline at end of file
@@ -6,12 +6,11 @@ import com.velocitypowered.api.event.player.ServerConnectedEvent;
 import com.velocitypowered.api.proxy.Player;
 import io.github.tavstaldev.nexus.Nexus;
 import io.github.tavstaldev.nexus.NexusConstants;
-import io.github.tavstaldev.nexus.util.ChatUtil;
-import net.kyori.adventure.text.Component;
+import io.github.tavstaldev.nexus.config.MessageKey;
+import io.github.tavstaldev.nexus.models.BroadcastPriority;
+import io.github.tavstaldev.nexus.placeholder.PlaceholderContext;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.Map;
-
 /**
  * The ConnectEventListener class listens for server connection events and handles
  * staff-related functionality, such as notifying other staff members when a staff
@@ -38,11 +37,19 @@ public class ConnectEventListener implements AwaitingEventExecutor<ServerConnect
      */
     public @Nullable EventTask executeAsync(ServerConnectedEvent event) {
         return EventTask.async(() -> {
+            Player player = event.getPlayer();
+
+            // Re-evaluate the broadcast audiences of the player, their permissions may depend on the server.
+            Nexus.plugin.getAudienceManager().refreshPlayer(player);
+            // Track the player in the server list ping if the server is a spoofer target.
+            Nexus.plugin.getSamplePlayerManager().updatePlayer(player, event.getServer());
+            // Count the player on the lobby server they connected to.
+            Nexus.plugin.getLobbyServerManager().updatePlayer(player, event.getServer());
+
             // Check if the player is switching from another server.
             if (event.getPreviousServer().isEmpty()) {
                 return;
             }
-            Player player = event.getPlayer();
 
             // Only proceed if the player has the NexusConstants.STAFF_PERMISSION permission.
             if (!player.hasPermission(NexusConstants.STAFF_PERMISSION)) {
@@ -51,20 +58,15 @@ public class ConnectEventListener implements AwaitingEventExecutor<ServerConnect
 
             // Add the staff member to the staff manager.
             Nexus.plugin.getStaffManager().addStaff(player.getUniqueId());
-            var rawMessage = Nexus.plugin.getMessages().getStaffSwitch();
-
-            // Build the staff switch notification message.
-            Component message = ChatUtil.buildMessage(rawMessage, Map.of(
-                    "player", player.getUsername(),
-                    "from", event.getPreviousServer().get().getServerInfo().getName(),
-                    "to", event.getServer().getServerInfo().getName()
-            ));
+            // Build the context of the staff switch notification message.
+            var context = PlaceholderContext.of(player)
+                    .withServer(event.getServer())
+                    .with("from", event.getPreviousServer().get().getServerInfo().getName())
+                    .with("to", event.getServer().getServerInfo().getName());
 
             // Notify all other staff members about the server switch.
-            Nexus.plugin.getProxy().getAllPlayers()
-                    .stream()
-                    .filter(x -> x != player && x.hasPermission(NexusConstants.STAFF_PERMISSION))
-                    .forEach(x -> x.sendMessage(message));
+            Nexus.plugin.getBroadcastManager().broadcast(Nexus.plugin.getAudienceManager().getMembers(NexusConstants.STAFF_PERMISSION),
+                    MessageKey.STAFF_SWITCH, context, BroadcastPriority.LOW, player);
         });
     }
 }
\ No newline at end of file
@@ -5,9 +5,9 @@ import com.velocitypowered.api.event.connection.DisconnectEvent;
 import com.velocitypowered.api.proxy.Player;
 import io.github.tavstaldev.nexus.Nexus;
 import io.github.tavstaldev.nexus.NexusConstants;
-import io.github.tavstaldev.nexus.util.ChatUtil;
-
-import java.util.Map;
+import io.github.tavstaldev.nexus.config.MessageKey;
+import io.github.tavstaldev.nexus.models.BroadcastPriority;
+import io.github.tavstaldev.nexus.placeholder.PlaceholderContext;
 
 /**
  * The DisconnectEventListener class listens for player disconnection events
@@ -36,12 +36,19 @@ public class DisconnectEventListener {
      */
     @Subscribe
     public void onDisconnect(DisconnectEvent event) {
+        Player player = event.getPlayer();
+
+        // Remove the player from the broadcast audiences.
+        Nexus.plugin.getAudienceManager().removePlayer(player);
+        Nexus.plugin.getBroadcastManager().removeRecipient(player);
+        Nexus.plugin.getLocaleManager().removePlayer(player);
+        Nexus.plugin.getSamplePlayerManager().removePlayer(player);
+        Nexus.plugin.getLobbyServerManager().removePlayer(player);
+
         // Ignore disconnections that occur before the player joins a server.
         if (event.getLoginStatus() == DisconnectEvent.LoginStatus.PRE_SERVER_JOIN)
             return;
 
-        Player player = event.getPlayer();
-
         // Remove the player from the staff manager.
         Nexus.plugin.getStaffManager().removeStaff(player.getUniqueId());
 
@@ -52,15 +59,8 @@ public class DisconnectEventListener {
 
         var plugin = Nexus.plugin;
 
-        // Build the staff leave notification message.
-        var quitMessage = ChatUtil.buildMessage(plugin.getMessages().getStaffLeaveMessage(), Map.of(
-                "player", player.getUsername()
-        ));
-
         // Notify all other staff members about the disconnection.
-        plugin.getProxy().getAllPlayers()
-                .stream()
-                .filter(x -> x != player && x.hasPermission(NexusConstants.STAFF_PERMISSION))
-                .forEach(x -> x.sendMessage(quitMessage));
+        plugin.getBroadcastManager().broadcast(plugin.getAudienceManager().getMembers(NexusConstants.STAFF_PERMISSION),
+                MessageKey.STAFF_LEAVE_MESSAGE, PlaceholderContext.of(player), BroadcastPriority.LOW, player);
     }
 }
\ No newline at end of file
@@ -0,0 +1,42 @@
+package io.github.tavstaldev.nexus.events;
+
+import com.velocitypowered.api.event.AwaitingEventExecutor;
+import com.velocitypowered.api.event.EventTask;
+import com.velocitypowered.api.event.player.KickedFromServerEvent;
+import io.github.tavstaldev.nexus.Nexus;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * The KickedFromServerEventListener class listens for players being kicked from a server and
+ * queues the players kicked from a lobby server, so they are spread over the other lobby servers
+ * instead of all reconnecting to the same one.
+ */
+public class KickedFromServerEventListener implements AwaitingEventExecutor<KickedFromServerEvent> {
+
+    /**
+     * Registers the KickedFromServerEventListener with the Velocity event manager.
+     * This allows the listener to handle KickedFromServerEvent events.
+     */
+    public void register() {
+        var plugin = Nexus.plugin;
+        plugin.getProxy().getEventManager().register(plugin, KickedFromServerEvent.class, this);
+        plugin.getLogger().debug("Registered KickedFromServerEventListener");
+    }
+
+    /**
+     * Handles the KickedFromServerEvent. Players kicked from the lobby server they were playing on are
+     * queued for another lobby server, and the event completes once they are redirected.
+     *
+     * @param event The KickedFromServerEvent containing the player and server details.
+     * @return An EventTask that completes when the player leaves the queue, or null if no action is needed.
+     */
+    public @Nullable EventTask executeAsync(KickedFromServerEvent event) {
+        // Players kicked while connecting are still on their previous server.
+        if (!Nexus.plugin.getConfig().getLobbyRedirect().isEnabled() || event.kickedDuringServerConnect())
+            return null;
+        if (!Nexus.plugin.getLobbyServerManager().isLobbyServer(event.getServer()))
+            return null;
+
+        return EventTask.withContinuation(continuation -> Nexus.plugin.getLobbyQueueManager().enqueue(event, continuation));
+    }
+}
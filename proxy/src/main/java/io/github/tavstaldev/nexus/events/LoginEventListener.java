@@ -0,0 +1,33 @@
+package io.github.tavstaldev.nexus.events;
+
+import com.velocitypowered.api.event.Subscribe;
+import com.velocitypowered.api.event.connection.PostLoginEvent;
+import io.github.tavstaldev.nexus.Nexus;
+
+/**
+ * The LoginEventListener class listens for player login events and registers
+ * the player in the broadcast audiences matching their permissions.
+ */
+public class LoginEventListener {
+
+    /**
+     * Registers the LoginEventListener with the Velocity event manager.
+     * This allows the listener to handle PostLoginEvent events.
+     */
+    public void register() {
+        var plugin = Nexus.plugin;
+        plugin.getProxy().getEventManager().register(plugin, new LoginEventListener());
+        plugin.getLogger().debug("Registered LoginEventListener");
+    }
+
+    /**
+     * Handles the PostLoginEvent. The permissions of the player are set up by this point,
+     * so the player is added to the audiences of the permissions they hold.
+     *
+     * @param event The PostLoginEvent containing the player who logged in.
+     */
+    @Subscribe
+    public void onPostLogin(PostLoginEvent event) {
+        Nexus.plugin.getAudienceManager().addPlayer(event.getPlayer());
+    }
+}
@@ -0,0 +1,33 @@
+package io.github.tavstaldev.nexus.events;
+
+import com.velocitypowered.api.event.Subscribe;
+import com.velocitypowered.api.event.player.PlayerSettingsChangedEvent;
+import io.github.tavstaldev.nexus.Nexus;
+
+/**
+ * The PlayerSettingsEventListener class listens for client settings changes,
+ * so the locale of the player is resolved again for their next message.
+ */
+public class PlayerSettingsEventListener {
+
+    /**
+     * Registers the PlayerSettingsEventListener with the Velocity event manager.
+     * This allows the listener to handle PlayerSettingsChangedEvent events.
+     */
+    public void register() {
+        var plugin = Nexus.plugin;
+        plugin.getProxy().getEventManager().register(plugin, new PlayerSettingsEventListener());
+        plugin.getLogger().debug("Registered PlayerSettingsEventListener");
+    }
+
+    /**
+     * Handles the PlayerSettingsChangedEvent. The client sends its settings, including the locale,
+     * after joining and whenever the player changes them.
+     *
+     * @param event The PlayerSettingsChangedEvent containing the player.
+     */
+    @Subscribe
+    public void onSettingsChanged(PlayerSettingsChangedEvent event) {
+        Nexus.plugin.getLocaleManager().invalidate(event.getPlayer());
+    }
+}
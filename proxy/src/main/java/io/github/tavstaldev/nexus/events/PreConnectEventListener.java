@@ -6,7 +6,9 @@ import com.velocitypowered.api.event.player.ServerPreConnectEvent;
 import com.velocitypowered.api.proxy.Player;
 import io.github.tavstaldev.nexus.Nexus;
 import io.github.tavstaldev.nexus.NexusConstants;
-import io.github.tavstaldev.nexus.util.ChatUtil;
+import io.github.tavstaldev.nexus.config.MessageKey;
+import io.github.tavstaldev.nexus.models.BroadcastPriority;
+import io.github.tavstaldev.nexus.placeholder.PlaceholderContext;
 import io.github.tavstaldev.nexus.util.MessageUtil;
 import org.jetbrains.annotations.Nullable;
 
@@ -47,8 +49,7 @@ public class PreConnectEventListener implements AwaitingEventExecutor<ServerPreC
             if (maintenance.isEnabled()) {
                 if (!maintenance.isPlayerAllowed(player)) {
                     event.setResult(ServerPreConnectEvent.ServerResult.denied());
-                    String serializedFormat = String.join("\n", plugin.getMessages().getMaintenanceKickMessage());
-                    player.disconnect(ChatUtil.translateColors(serializedFormat, true));
+                    player.disconnect(plugin.getLocaleManager().getMessageTable(player).get(MessageKey.MAINTENANCE_KICK_MESSAGE));
                     return;
                 }
             }
@@ -63,9 +64,9 @@ public class PreConnectEventListener implements AwaitingEventExecutor<ServerPreC
             if (reportConfig.isEnabled() && reportConfig.isNotifyOnLogin() && player.hasPermission(reportConfig.getNotifyPermission())) {
                 var reports = Nexus.plugin.getReports();
                 if (reports.isEmpty()) {
-                    MessageUtil.sendRichMsg(player, plugin.getMessages().getPlayerReportEmpty());
+                    MessageUtil.sendRichMsg(player, MessageKey.PLAYER_REPORT_EMPTY);
                 } else {
-                    MessageUtil.sendRichMsg(player, plugin.getMessages().getPlayerReportCount(),
+                    MessageUtil.sendRichMsg(player, MessageKey.PLAYER_REPORT_COUNT,
                             Map.of("count", String.valueOf(reports.size())));
                 }
             }
@@ -77,13 +78,8 @@ public class PreConnectEventListener implements AwaitingEventExecutor<ServerPreC
 
             // Add the staff member to the staff manager and notify other staff members.
             Nexus.plugin.getStaffManager().addStaff(player.getUniqueId());
-            var joinMessage = ChatUtil.buildMessage(plugin.getMessages().getStaffJoinMessage(), Map.of(
-                    "player", player.getUsername()
-            ));
-            plugin.getProxy().getAllPlayers()
-                    .stream()
-                    .filter(x -> x != player && x.hasPermission(NexusConstants.STAFF_PERMISSION))
-                    .forEach(x -> x.sendMessage(joinMessage));
+            plugin.getBroadcastManager().broadcast(plugin.getAudienceManager().getMembers(NexusConstants.STAFF_PERMISSION),
+                    MessageKey.STAFF_JOIN_MESSAGE, PlaceholderContext.of(player), BroadcastPriority.LOW, player);
         });
     }
 }
\ No newline at end of file
@@ -0,0 +1,125 @@
+package io.github.tavstaldev.nexus.managers;
+
+import com.velocitypowered.api.proxy.Player;
+import io.github.tavstaldev.nexus.Nexus;
+import io.github.tavstaldev.nexus.NexusConstants;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The AudienceManager class keeps track of the online players holding each broadcast permission.
+ * Member sets are maintained when players log in, disconnect or have their permissions recalculated,
+ * so broadcasts only touch their recipients instead of checking the permission of every online player.
+ */
+public class AudienceManager {
+    // A map of tracked permissions to the online players holding them.
+    private final Map<String, Set<Player>> audiences = new ConcurrentHashMap<>();
+
+    /**
+     * Starts tracking the broadcast permissions defined in the plugin's configuration.
+     */
+    public void trackConfiguredPermissions() {
+        var config = Nexus.plugin.getConfig();
+        track(NexusConstants.STAFF_PERMISSION);
+        track(config.getHelpop().getStaffPermission());
+        track(config.getPlayerReport().getNotifyPermission());
+        for (var customChat : config.getCustomChats()) {
+            if (customChat.isEnabled())
+                track(customChat.getPermission());
+        }
+    }
+
+    /**
+     * Starts tracking a permission. The member set is filled from the currently online players.
+     * If the permission is already tracked, the method does nothing.
+     *
+     * @param permission The permission to track.
+     */
+    public void track(@NotNull String permission) {
+        getAudience(permission);
+    }
+
+    /**
+     * Retrieves the online players holding the specified permission.
+     * Permissions that are not tracked yet are tracked from this call on.
+     *
+     * @param permission The permission the players must hold.
+     * @return An unmodifiable live view of the players holding the permission.
+     */
+    public Set<Player> getMembers(@NotNull String permission) {
+        return Collections.unmodifiableSet(getAudience(permission));
+    }
+
+    /**
+     * Adds a player to the member set of every tracked permission the player holds.
+     *
+     * @param player The player who logged in.
+     */
+    public void addPlayer(@NotNull Player player) {
+        refreshPlayer(player);
+    }
+
+    /**
+     * Re-evaluates the tracked permissions of a player, adding or removing them from the member sets.
+     *
+     * @param player The player whose permissions may have changed.
+     */
+    public void refreshPlayer(@NotNull Player player) {
+        if (!player.isActive())
+            return;
+
+        for (var entry : audiences.entrySet()) {
+            if (player.hasPermission(entry.getKey()))
+                entry.getValue().add(player);
+            else
+                entry.getValue().remove(player);
+        }
+    }
+
+    /**
+     * Re-evaluates the tracked permissions of an online player, identified by their UUID.
+     * If the player is not online, the method does nothing.
+     *
+     * @param uuid The UUID of the player whose permissions may have changed.
+     */
+    public void refreshPlayer(@NotNull UUID uuid) {
+        Nexus.plugin.getProxy().getPlayer(uuid).ifPresent(this::refreshPlayer);
+    }
+
+    /**
+     * Removes a player from every member set.
+     *
+     * @param player The player who disconnected.
+     */
+    public void removePlayer(@NotNull Player player) {
+        for (var members : audiences.values()) {
+            members.remove(player);
+        }
+    }
+
+    /**
+     * Retrieves the member set of a permission, creating and filling it if it is not tracked yet.
+     *
+     * @param permission The permission of the member set.
+     * @return The mutable member set.
+     */
+    private Set<Player> getAudience(@NotNull String permission) {
+        var members = audiences.get(permission);
+        if (members != null)
+            return members;
+
+        return audiences.computeIfAbsent(permission, key -> {
+            Set<Player> newMembers = ConcurrentHashMap.newKeySet();
+            for (Player player : Nexus.plugin.getProxy().getAllPlayers()) {
+                if (player.hasPermission(key))
+                    newMembers.add(player);
+            }
+            return newMembers;
+        });
+    }
+}
@@ -0,0 +1,382 @@
+package io.github.tavstaldev.nexus.managers;
+
+import com.google.common.util.concurrent.MoreExecutors;
+import com.velocitypowered.api.proxy.Player;
+import io.github.tavstaldev.nexus.Nexus;
+import io.github.tavstaldev.nexus.config.MessageKey;
+import io.github.tavstaldev.nexus.config.MessageTable;
+import io.github.tavstaldev.nexus.logger.PluginLogger;
+import io.github.tavstaldev.nexus.models.BroadcastPriority;
+import io.github.tavstaldev.nexus.placeholder.PlaceholderContext;
+import net.kyori.adventure.text.Component;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * The BroadcastManager class delivers a single message to many players.
+ * Serializing the message for the protocol version of every recipient is left to the proxy.
+ * <p>
+ * Deliveries run on virtual threads, split into shards by the UUID of the recipient. Every shard is
+ * a serial lane, so the messages of one recipient are always delivered in the order they were broadcast,
+ * while the shards are delivered in parallel and the broadcasting thread returns immediately.
+ * <p>
+ * The messages still queued in the lane of a recipient are counted. Once more messages are queued for a
+ * recipient than the configured limit, low priority messages are coalesced into the one already queued, or
+ * dropped. This only bounds the backlog of the lanes themselves, for example during a burst of broadcasts.
+ * Sending hands the message to the network layer of the proxy without waiting, so a client on a slow
+ * connection empties its lane as fast as any other; Velocity does not expose its network buffer to plugins.
+ */
+public class BroadcastManager {
+    // The number of delivery shards.
+    private static final int SHARD_COUNT = Math.max(4, Runtime.getRuntime().availableProcessors() * 2);
+
+    private final PluginLogger logger;
+
+    // The executor running the deliveries, one virtual thread per task.
+    private final ExecutorService executor;
+
+    // The serial lanes of the shards, running their tasks in submission order.
+    private final Executor[] shards;
+
+    // The delivery state of the recipients, keyed by their UUID.
+    private final Map<UUID, RecipientState> recipientStates = new ConcurrentHashMap<>();
+
+    // The number of broadcasts submitted.
+    private final LongAdder broadcasts = new LongAdder();
+
+    // The number of messages delivered to recipients.
+    private final LongAdder delivered = new LongAdder();
+
+    // The number of messages that failed to be delivered.
+    private final LongAdder failed = new LongAdder();
+
+    // The number of low priority messages dropped because the lane of their recipient was backed up.
+    private final LongAdder dropped = new LongAdder();
+
+    // The number of low priority messages merged into a message already waiting for their recipient.
+    private final LongAdder coalesced = new LongAdder();
+
+    /**
+     * Constructs a BroadcastManager instance and starts its delivery shards.
+     */
+    public BroadcastManager() {
+        this.logger = Nexus.plugin.getLogger().withModule(this.getClass());
+        this.executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("nexus-broadcast-", 0).factory());
+        this.shards = new Executor[SHARD_COUNT];
+        for (int i = 0; i < SHARD_COUNT; i++) {
+            shards[i] = MoreExecutors.newSequentialExecutor(executor);
+        }
+    }
+
+    /**
+     * Broadcasts a message with normal priority to the specified players.
+     *
+     * @param recipients The players receiving the message.
+     * @param message    The message to broadcast.
+     * @return A future completed once the message was delivered to every recipient.
+     */
+    public CompletableFuture<Void> broadcast(@NotNull Iterable<? extends Player> recipients, @NotNull Component message) {
+        return broadcast(recipients, message, BroadcastPriority.NORMAL, null);
+    }
+
+    /**
+     * Broadcasts a message to the specified players.
+     *
+     * @param recipients The players receiving the message.
+     * @param message    The message to broadcast.
+     * @param priority   The priority of the message.
+     * @return A future completed once the message was delivered to every recipient.
+     */
+    public CompletableFuture<Void> broadcast(@NotNull Iterable<? extends Player> recipients, @NotNull Component message, @NotNull BroadcastPriority priority) {
+        return broadcast(recipients, message, priority, null);
+    }
+
+    /**
+     * Broadcasts a message to the specified players, skipping the excluded player.
+     * The recipients are split into shards on the calling thread, the messages are sent on the shards.
+     *
+     * @param recipients The players receiving the message.
+     * @param message    The message to broadcast.
+     * @param priority   The priority of the message.
+     * @param excluded   The player who should not receive the message, or null.
+     * @return A future completed once the message was delivered to every recipient.
+     */
+    public CompletableFuture<Void> broadcast(@NotNull Iterable<? extends Player> recipients, @NotNull Component message,
+                                             @NotNull BroadcastPriority priority, @Nullable Player excluded) {
+        return submit(recipients, recipient -> message, priority, excluded);
+    }
+
+    /**
+     * Broadcasts a message of the message table to the specified players, skipping the excluded player.
+     * The message is rendered once per message table, so every recipient receives it in their own locale.
+     *
+     * @param recipients The players receiving the message.
+     * @param key        The key of the message to broadcast.
+     * @param context    The context the placeholders of the message are resolved from.
+     * @param priority   The priority of the message.
+     * @param excluded   The player who should not receive the message, or null.
+     * @return A future completed once the message was delivered to every recipient.
+     */
+    public CompletableFuture<Void> broadcast(@NotNull Iterable<? extends Player> recipients, @NotNull MessageKey key, @NotNull PlaceholderContext context,
+                                             @NotNull BroadcastPriority priority, @Nullable Player excluded) {
+        var localeManager = Nexus.plugin.getLocaleManager();
+        Map<MessageTable, Component> rendered = new IdentityHashMap<>();
+        return submit(recipients,
+                recipient -> rendered.computeIfAbsent(localeManager.getMessageTable(recipient), table -> table.render(key, context)),
+                priority, excluded);
+    }
+
+    /**
+     * Splits the recipients into shards on the calling thread and submits the deliveries to the shards.
+     *
+     * @param recipients The players receiving the message.
+     * @param messageOf  The function providing the message of a recipient.
+     * @param priority   The priority of the message.
+     * @param excluded   The player who should not receive the message, or null.
+     * @return A future completed once the message was delivered to every recipient.
+     */
+    private CompletableFuture<Void> submit(@NotNull Iterable<? extends Player> recipients, @NotNull Function<Player, Component> messageOf,
+                                           @NotNull BroadcastPriority priority, @Nullable Player excluded) {
+        broadcasts.increment();
+        var config = Nexus.plugin.getConfig().getBroadcast();
+        int maxQueued = config.getMaxQueuedMessages();
+        boolean coalesce = config.isCoalesceLowPriority();
+
+        // Split the recipients into shards.
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        List<Delivery>[] deliveries = new List[SHARD_COUNT];
+        for (Player recipient : recipients) {
+            if (recipient == excluded)
+                continue;
+            Component component = messageOf.apply(recipient);
+            RecipientState state = stateOf(recipient);
+            if (state == null)
+                continue;
+
+            // Hold back low priority messages while the lane of the recipient is backed up.
+            if (priority == BroadcastPriority.LOW && state.queued.get() >= maxQueued) {
+                Delivery waiting = state.waitingLow.get();
+                if (coalesce && waiting != null && waiting.replace(component))
+                    coalesced.increment();
+                else
+                    dropped.increment();
+                continue;
+            }
+
+            Delivery delivery = new Delivery(recipient, state, component);
+            state.queued.incrementAndGet();
+            if (priority == BroadcastPriority.LOW)
+                state.waitingLow.set(delivery);
+
+            int shard = shardOf(recipient);
+            if (deliveries[shard] == null)
+                deliveries[shard] = new ArrayList<>();
+            deliveries[shard].add(delivery);
+        }
+
+        List<CompletableFuture<Void>> futures = new ArrayList<>(SHARD_COUNT);
+        for (int shard = 0; shard < SHARD_COUNT; shard++) {
+            List<Delivery> batch = deliveries[shard];
+            if (batch != null)
+                futures.add(CompletableFuture.runAsync(() -> deliver(batch), shards[shard]));
+        }
+        return CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new));
+    }
+
+    /**
+     * Sends the messages of a shard to their recipients.
+     *
+     * @param batch The deliveries of the shard.
+     */
+    private void deliver(@NotNull List<Delivery> batch) {
+        for (Delivery delivery : batch) {
+            Component message = delivery.take();
+            try {
+                delivery.recipient.sendMessage(message);
+                delivered.increment();
+            } catch (Exception ex) {
+                failed.increment();
+                logger.debug("Failed to deliver a broadcast to " + delivery.recipient.getUsername() + ": " + ex.getMessage());
+            } finally {
+                delivery.state.queued.decrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * Retrieves the delivery state of a recipient, creating it if needed.
+     * No state is kept for players who disconnected, since the state would never be removed again.
+     *
+     * @param recipient The recipient of a message.
+     * @return The RecipientState, or null if the recipient disconnected.
+     */
+    private @Nullable RecipientState stateOf(@NotNull Player recipient) {
+        if (!recipient.isActive())
+            return null;
+        UUID uuid = recipient.getUniqueId();
+        RecipientState state = recipientStates.computeIfAbsent(uuid, key -> new RecipientState());
+        // The player may have disconnected, and their state been removed, while the state was created.
+        if (!recipient.isActive()) {
+            recipientStates.remove(uuid, state);
+            return null;
+        }
+        return state;
+    }
+
+    /**
+     * Forgets the delivery state of a player, called when the player disconnects.
+     *
+     * @param player The player who disconnected.
+     */
+    public void removeRecipient(@NotNull Player player) {
+        recipientStates.remove(player.getUniqueId());
+    }
+
+    /**
+     * Retrieves the number of messages queued in the delivery lane of a player, not yet handed to the proxy.
+     *
+     * @param player The recipient.
+     * @return The number of queued messages.
+     */
+    public int getQueuedCount(@NotNull Player player) {
+        RecipientState state = recipientStates.get(player.getUniqueId());
+        return state == null ? 0 : state.queued.get();
+    }
+
+    /**
+     * Retrieves the shard of a recipient, based on their UUID.
+     *
+     * @param recipient The recipient of a message.
+     * @return The index of the shard.
+     */
+    private static int shardOf(@NotNull Player recipient) {
+        return Math.floorMod(recipient.getUniqueId().hashCode(), SHARD_COUNT);
+    }
+
+    /**
+     * Stops accepting broadcasts and waits briefly for the pending deliveries to finish.
+     */
+    public void shutdown() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(5, TimeUnit.SECONDS))
+                executor.shutdownNow();
+        } catch (InterruptedException ex) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Retrieves the number of broadcasts submitted.
+     *
+     * @return The number of broadcasts.
+     */
+    public long getBroadcastCount() {
+        return broadcasts.sum();
+    }
+
+    /**
+     * Retrieves the number of messages delivered to recipients.
+     *
+     * @return The number of delivered messages.
+     */
+    public long getDeliveredCount() {
+        return delivered.sum();
+    }
+
+    /**
+     * Retrieves the number of messages that failed to be delivered.
+     *
+     * @return The number of failed deliveries.
+     */
+    public long getFailedCount() {
+        return failed.sum();
+    }
+
+    /**
+     * Retrieves the number of low priority messages dropped because the lane of their recipient was backed up.
+     *
+     * @return The number of dropped messages.
+     */
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    /**
+     * Retrieves the number of low priority messages merged into a message already waiting for their recipient.
+     *
+     * @return The number of coalesced messages.
+     */
+    public long getCoalescedCount() {
+        return coalesced.sum();
+    }
+
+    /**
+     * The delivery state of a single recipient.
+     */
+    private static final class RecipientState {
+        // The number of messages queued in the lane of the recipient, not yet handed to the proxy.
+        private final AtomicInteger queued = new AtomicInteger();
+
+        // The last low priority message waiting to be sent, which newer low priority messages may replace.
+        private final AtomicReference<Delivery> waitingLow = new AtomicReference<>();
+    }
+
+    /**
+     * A message prepared for a single recipient. Until it is taken for sending,
+     * the message of a low priority delivery may be replaced by a newer one.
+     */
+    private static final class Delivery {
+        private final Player recipient;
+        private final RecipientState state;
+        private Component message;
+        private boolean taken;
+
+        private Delivery(Player recipient, RecipientState state, Component message) {
+            this.recipient = recipient;
+            this.state = state;
+            this.message = message;
+        }
+
+        /**
+         * Replaces the message, unless it was already taken for sending.
+         *
+         * @param newMessage The newer message.
+         * @return True if the message was replaced, otherwise false.
+         */
+        private synchronized boolean replace(Component newMessage) {
+            if (taken)
+                return false;
+            message = newMessage;
+            return true;
+        }
+
+        /**
+         * Takes the message for sending, after which it can no longer be replaced.
+         *
+         * @return The message to send.
+         */
+        private synchronized Component take() {
+            taken = true;
+            state.waitingLow.compareAndSet(this, null);
+            return message;
+        }
+    }
+}
@@ -2,6 +2,7 @@ package io.github.tavstaldev.nexus.managers;
 
 import com.velocitypowered.api.proxy.Player;
 import io.github.tavstaldev.nexus.Nexus;
+import io.github.tavstaldev.nexus.config.MessageKey;
 import io.github.tavstaldev.nexus.config.main.CustomChatConfig;
 import io.github.tavstaldev.nexus.util.MessageUtil;
 import org.jetbrains.annotations.Nullable;
@@ -35,14 +36,14 @@ public class CustomChatManager {
         if (hasToggled && toggledChats.get(playerUUID).equals(chatName)) {
             // Turn off the toggled chat if the player is already in the specified chat.
             toggledChats.remove(playerUUID);
-            MessageUtil.sendRichMsg(player, Nexus.plugin.getMessages().getCustomChatToggleOff(), Map.of("chat", chatName));
+            MessageUtil.sendRichMsg(player, MessageKey.CUSTOM_CHAT_TOGGLE_OFF, Map.of("chat", chatName));
         } else {
             // Switch to the new chat or toggle it on if no chat is currently toggled.
             toggledChats.put(playerUUID, chatName);
             if (hasToggled)
-                MessageUtil.sendRichMsg(player, Nexus.plugin.getMessages().getCustomChatSwitchedTo(), Map.of("chat", chatName));
+                MessageUtil.sendRichMsg(player, MessageKey.CUSTOM_CHAT_SWITCHED_TO, Map.of("chat", chatName));
             else
-                MessageUtil.sendRichMsg(player, Nexus.plugin.getMessages().getCustomChatToggleOn(), Map.of("chat", chatName));
+                MessageUtil.sendRichMsg(player, MessageKey.CUSTOM_CHAT_TOGGLE_ON, Map.of("chat", chatName));
         }
     }
 
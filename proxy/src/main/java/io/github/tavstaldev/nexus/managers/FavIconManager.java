@@ -2,27 +2,51 @@ package io.github.tavstaldev.nexus.managers;
 
 import com.velocitypowered.api.util.Favicon;
 import io.github.tavstaldev.nexus.Nexus;
+import io.github.tavstaldev.nexus.config.main.pinger.ServerFavIconConfig;
+import io.github.tavstaldev.nexus.util.FavIconOptimizer;
+import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import javax.imageio.ImageIO;
-import java.io.InputStream;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 
 /**
  * The FavIconManager class is responsible for managing server icons (favicons) in the Nexus plugin.
  * It handles loading icons from a directory, validating their dimensions, and providing methods
  * to retrieve specific or random icons.
+ * <p>
+ * Loaded icons are published as an immutable snapshot, indexed both by file name and by position,
+ * so picking a random icon is a single array access. The icons directory is watched for changes,
+ * changed icons are decoded on a background thread and published with a single swap of the snapshot.
  */
 public class FavIconManager {
     // The directory where the icons are stored.
     private final Path iconsDir;
 
-    // A map to store loaded icons, where the key is the file name and the value is the Favicon object.
-    private final Map<String, Favicon> icons = new HashMap<>();
+    // How long to wait for more changes after a change in the icons directory, in milliseconds.
+    private static final long WATCH_DEBOUNCE = 250;
+
+    // The loaded icons.
+    private volatile IconSnapshot icons = IconSnapshot.EMPTY;
+
+    // The service watching the icons directory, or null if it is not watched.
+    private WatchService watchService;
 
     /**
      * Constructs a FavIconManager and initializes the icons directory.
@@ -38,20 +62,74 @@ public class FavIconManager {
 
     /**
      * Loads all icons from the icons directory. Only files with a .png extension are considered.
-     * Icons are cleared before loading to ensure no duplicates exist.
+     * Icons are decoded and optimized in parallel, and replace the previous ones once every icon is loaded.
      * Logs an error message if the loading process fails.
      */
-    public void loadIcons() {
-        icons.clear();
+    public synchronized void loadIcons() {
+        Map<String, FavIconOptimizer.OptimizedIcon> optimized = new ConcurrentHashMap<>();
 
         try (var paths = Files.list(iconsDir)) {
-            paths.filter(path -> {
+            List<Path> files = paths.filter(path -> {
                 String fileName = path.getFileName().toString().toLowerCase();
                 return fileName.endsWith(".png");
-            }).forEach(this::loadIcon);
+            }).toList();
+            files.parallelStream().forEach(path -> {
+                var icon = loadIcon(path);
+                if (icon != null)
+                    optimized.put(path.getFileName().toString(), icon);
+            });
         } catch (Exception e) {
             Nexus.plugin.getLogger().error("Failed to load icons: " + e.getMessage());
         }
+
+        Map<String, Favicon> loaded = new HashMap<>();
+        long originalSize = 0;
+        long encodedSize = 0;
+        for (var entry : optimized.entrySet()) {
+            loaded.put(entry.getKey(), entry.getValue().getFavicon());
+            originalSize += entry.getValue().getOriginalSize();
+            encodedSize += entry.getValue().getEncodedSize();
+        }
+        icons = new IconSnapshot(loaded);
+
+        if (!loaded.isEmpty()) {
+            Nexus.plugin.getLogger().info(String.format("Loaded %d icons, optimized from %d to %d bytes (%d%% saved).",
+                    loaded.size(), originalSize, encodedSize, percentSaved(originalSize, encodedSize)));
+        }
+    }
+
+    /**
+     * Starts watching the icons directory. Added, changed and removed icons are applied
+     * on a background thread, and the ping responses are rebound to the new icons.
+     */
+    public synchronized void startWatching() {
+        if (watchService != null)
+            return;
+        try {
+            watchService = iconsDir.getFileSystem().newWatchService();
+            iconsDir.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                    StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE);
+        } catch (IOException e) {
+            Nexus.plugin.getLogger().error("Failed to watch the icons directory: " + e.getMessage());
+            return;
+        }
+
+        WatchService service = watchService;
+        Thread.ofPlatform().daemon().name("nexus-icon-watcher").start(() -> watch(service));
+    }
+
+    /**
+     * Stops watching the icons directory.
+     */
+    public synchronized void stopWatching() {
+        if (watchService == null)
+            return;
+        try {
+            watchService.close();
+        } catch (IOException e) {
+            Nexus.plugin.getLogger().error("Failed to stop watching the icons directory: " + e.getMessage());
+        }
+        watchService = null;
     }
 
     /**
@@ -63,35 +141,216 @@ public class FavIconManager {
      * @return The Favicon object, or null if no icons are available.
      */
     public @Nullable Favicon getIcon(String path) {
-        if (icons.isEmpty()) {
+        if (isRandom(path)) {
+            return getRandomIcon();
+        }
+        return icons.byName.get(path);
+    }
+
+    /**
+     * Retrieves a random icon.
+     *
+     * @return A random Favicon object, or null if no icons are available.
+     */
+    public @Nullable Favicon getRandomIcon() {
+        Favicon[] snapshot = icons.array;
+        if (snapshot.length == 0) {
             return null;
         }
+        return snapshot[ThreadLocalRandom.current().nextInt(snapshot.length)];
+    }
+
+    /**
+     * Resolves the icon of a favicon configuration once, so it does not have to be looked up for every ping.
+     * Random icons are picked from the loaded icons whenever the binding is resolved.
+     *
+     * @param config The favicon configuration to bind.
+     * @return The IconBinding of the configuration.
+     */
+    public IconBinding bind(@NotNull ServerFavIconConfig config) {
+        if (!config.isEnabled())
+            return IconBinding.NONE;
+        if (isRandom(config.getPath()))
+            return new IconBinding(this, null);
 
-        if (path == null || path.isEmpty() || path.equalsIgnoreCase("random")) {
-            int randomIndex = ThreadLocalRandom.current().nextInt(icons.size());
-            return (Favicon) icons.values().toArray()[randomIndex];
+        Favicon icon = icons.byName.get(config.getPath());
+        if (icon == null) {
+            Nexus.plugin.getLogger().warn("Failed to find icon: " + config.getPath());
+            return IconBinding.NONE;
         }
-        return icons.get(path);
+        return new IconBinding(null, icon);
     }
 
     /**
-     * Loads a single icon from the specified path. Validates that the image dimensions are 64x64 pixels.
-     * If the dimensions are invalid or the loading process fails, a warning or error is logged.
+     * Waits for changes in the icons directory and applies them, until the watch service is closed.
+     * Changes arriving shortly after each other are applied together.
+     *
+     * @param service The service watching the icons directory.
+     */
+    private void watch(WatchService service) {
+        try {
+            while (true) {
+                WatchKey key = service.take();
+                Set<String> changed = new HashSet<>();
+                boolean overflow = false;
+                do {
+                    for (WatchEvent<?> event : key.pollEvents()) {
+                        if (event.kind() == StandardWatchEventKinds.OVERFLOW)
+                            overflow = true;
+                        else if (event.context() instanceof Path path)
+                            changed.add(path.getFileName().toString());
+                    }
+                    key.reset();
+                    key = service.poll(WATCH_DEBOUNCE, TimeUnit.MILLISECONDS);
+                } while (key != null);
+
+                if (overflow)
+                    loadIcons();
+                else
+                    applyChanges(changed);
+                Nexus.plugin.getPingResponseManager().load();
+            }
+        } catch (ClosedWatchServiceException | InterruptedException ignored) {
+            // The watcher was stopped.
+        } catch (Exception e) {
+            Nexus.plugin.getLogger().error("The icon watcher stopped unexpectedly: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Decodes the changed icons and publishes a new snapshot containing them.
+     * Icons whose files no longer exist are removed. If a changed file cannot be decoded, e.g. because
+     * it is still being copied, the previously loaded version of the icon is kept.
+     *
+     * @param fileNames The names of the changed files.
+     */
+    private synchronized void applyChanges(Set<String> fileNames) {
+        Map<String, Favicon> updated = new HashMap<>(icons.byName);
+        for (String fileName : fileNames) {
+            if (!fileName.toLowerCase().endsWith(".png"))
+                continue;
+            Path path = iconsDir.resolve(fileName);
+            if (!Files.isRegularFile(path)) {
+                if (updated.remove(fileName) != null)
+                    Nexus.plugin.getLogger().info("Removed icon: " + fileName);
+                continue;
+            }
+
+            var icon = loadIcon(path);
+            if (icon == null) {
+                if (updated.containsKey(fileName))
+                    Nexus.plugin.getLogger().warn("Keeping the previous version of icon " + fileName + ", the changed file could not be loaded.");
+                continue;
+            }
+            updated.put(fileName, icon.getFavicon());
+            Nexus.plugin.getLogger().info("Reloaded icon: " + fileName);
+        }
+        icons = new IconSnapshot(updated);
+    }
+
+    /**
+     * Checks whether an icon path asks for a random icon.
+     *
+     * @param path The icon path.
+     * @return True if the path is null, empty or "random".
+     */
+    private static boolean isRandom(String path) {
+        return path == null || path.isEmpty() || path.equalsIgnoreCase("random");
+    }
+
+    /**
+     * Loads a single icon from the specified path. Icons are resized to 64x64 pixels if needed,
+     * and re-encoded to make them as small as possible. Files that are too large, or whose header
+     * declares too large an image, are rejected before the image is decoded.
+     * If the loading process fails, an error is logged.
      *
      * @param path The path to the icon file.
+     * @return The optimized icon, or null if the icon could not be loaded.
      */
-    private void loadIcon(Path path) {
-        try (InputStream inputStream = Files.newInputStream(path)) {
-            var bufferedImage = ImageIO.read(inputStream);
-            if (bufferedImage.getHeight() != 64 || bufferedImage.getWidth() != 64) {
-                Nexus.plugin.getLogger().warn("Failed to load icon, the image size must be 64x64: " + path.getFileName().toString());
-                return;
+    private @Nullable FavIconOptimizer.OptimizedIcon loadIcon(Path path) {
+        String fileName = path.getFileName().toString();
+        try {
+            if (Files.size(path) > FavIconOptimizer.MAX_FILE_SIZE) {
+                Nexus.plugin.getLogger().warn("Failed to load icon, the file is too large: " + fileName);
+                return null;
+            }
+            byte[] content = Files.readAllBytes(path);
+            FavIconOptimizer.checkHeader(content);
+            var bufferedImage = ImageIO.read(new ByteArrayInputStream(content));
+            if (bufferedImage == null) {
+                Nexus.plugin.getLogger().warn("Failed to load icon, the file is not a valid image: " + fileName);
+                return null;
             }
 
-            Favicon icon = Favicon.create(bufferedImage);
-            icons.put(path.getFileName().toString(), icon);
+            var icon = FavIconOptimizer.optimize(bufferedImage, content);
+            if (icon.isResized()) {
+                Nexus.plugin.getLogger().warn(String.format("Resized icon %s from %dx%d to 64x64.",
+                        fileName, bufferedImage.getWidth(), bufferedImage.getHeight()));
+            }
+            Nexus.plugin.getLogger().debug(String.format("Optimized icon %s from %d to %d bytes (%d%% saved).",
+                    fileName, icon.getOriginalSize(), icon.getEncodedSize(), percentSaved(icon.getOriginalSize(), icon.getEncodedSize())));
+            return icon;
         } catch (Exception e) {
-            Nexus.plugin.getLogger().error("Failed to load icon: " + path.getFileName().toString() + " - " + e.getMessage());
+            Nexus.plugin.getLogger().error("Failed to load icon: " + fileName + " - " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Calculates how much smaller the optimized icons are than the original files.
+     *
+     * @param originalSize The size of the original files, in bytes.
+     * @param encodedSize  The size of the optimized icons, in bytes.
+     * @return The saved size, in percent of the original size.
+     */
+    private static long percentSaved(long originalSize, long encodedSize) {
+        return originalSize <= 0 ? 0 : (originalSize - encodedSize) * 100 / originalSize;
+    }
+
+    /**
+     * An immutable set of loaded icons, indexed by file name and by position.
+     */
+    private static final class IconSnapshot {
+        // The snapshot without any icons.
+        private static final IconSnapshot EMPTY = new IconSnapshot(Map.of());
+
+        // The icons, where the key is the file name and the value is the Favicon object.
+        private final Map<String, Favicon> byName;
+
+        // The icons in an array, to pick random icons from.
+        private final Favicon[] array;
+
+        private IconSnapshot(Map<String, Favicon> icons) {
+            this.byName = Map.copyOf(icons);
+            this.array = byName.values().toArray(new Favicon[0]);
+        }
+    }
+
+    /**
+     * A favicon configuration resolved to either a fixed icon, a random icon or no icon at all.
+     */
+    public static final class IconBinding {
+        // The binding of a disabled or missing icon.
+        public static final IconBinding NONE = new IconBinding(null, null);
+
+        // The manager to pick random icons from, or null if the icon is not random.
+        private final FavIconManager randomSource;
+
+        // The fixed icon, or null if the icon is random or missing.
+        private final Favicon icon;
+
+        private IconBinding(@Nullable FavIconManager randomSource, @Nullable Favicon icon) {
+            this.randomSource = randomSource;
+            this.icon = icon;
+        }
+
+        /**
+         * Resolves the bound icon.
+         *
+         * @return The Favicon to show, or null if no icon should be shown.
+         */
+        public @Nullable Favicon resolve() {
+            return randomSource != null ? randomSource.getRandomIcon() : icon;
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,185 @@
+package io.github.tavstaldev.nexus.managers;
+
+import com.velocitypowered.api.event.Continuation;
+import com.velocitypowered.api.event.player.KickedFromServerEvent;
+import com.velocitypowered.api.proxy.Player;
+import com.velocitypowered.api.proxy.server.RegisteredServer;
+import com.velocitypowered.api.scheduler.ScheduledTask;
+import io.github.tavstaldev.nexus.Nexus;
+import io.github.tavstaldev.nexus.config.MessageKey;
+import io.github.tavstaldev.nexus.util.MessageUtil;
+import net.kyori.adventure.text.Component;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The LobbyQueueManager class redirects the players kicked from a lobby server to the other lobby servers.
+ * <p>
+ * When a lobby crashes, all of its players are kicked at once. Instead of letting all of them reconnect to
+ * the next lobby at the same moment, which tends to take that lobby down as well, the kicked players wait in
+ * a queue while the kick event is held open. Players are released in order, and every lobby only receives
+ * a limited number of players per second, chosen by {@link LobbyServerManager#acquireRedirect}. Redirected
+ * players are shown the kick reason of the server, if it gave one. Waiting players are told their position
+ * in the queue. Players who wait too long are left to the proxy, which handles the kick as it would without
+ * Nexus.
+ */
+public class LobbyQueueManager {
+    // How often the queue is processed, in milliseconds.
+    private static final long TICK_MILLIS = 250L;
+
+    // How often a waiting player is reminded of an unchanged queue position, in milliseconds.
+    private static final long REMINDER_MILLIS = 5000L;
+
+    // How often a waiting player is told about a changed queue position at most, in milliseconds.
+    private static final long UPDATE_MILLIS = 1000L;
+
+    // The waiting players, in the order they were kicked.
+    private final List<QueuedPlayer> queue = new ArrayList<>();
+
+    // The task processing the queue.
+    private ScheduledTask drainTask;
+
+    /**
+     * Starts processing the queue.
+     */
+    public synchronized void start() {
+        if (drainTask != null)
+            drainTask.cancel();
+        drainTask = Nexus.plugin.getProxy().getScheduler()
+                .buildTask(Nexus.plugin, this::drain)
+                .delay(TICK_MILLIS, TimeUnit.MILLISECONDS)
+                .repeat(TICK_MILLIS, TimeUnit.MILLISECONDS)
+                .schedule();
+    }
+
+    /**
+     * Stops processing the queue and hands every waiting player back to the proxy.
+     */
+    public void shutdown() {
+        List<QueuedPlayer> released;
+        synchronized (this) {
+            if (drainTask != null) {
+                drainTask.cancel();
+                drainTask = null;
+            }
+            released = new ArrayList<>(queue);
+            queue.clear();
+        }
+        released.forEach(queued -> queued.continuation.resume());
+    }
+
+    /**
+     * Queues a player kicked from a lobby server. The kick event is completed once the player is
+     * redirected or gave up waiting. If a lobby can take the player right away, they are not delayed.
+     *
+     * @param event        The kick event of the player.
+     * @param continuation The continuation completing the kick event.
+     */
+    public void enqueue(@NotNull KickedFromServerEvent event, @NotNull Continuation continuation) {
+        synchronized (this) {
+            queue.add(new QueuedPlayer(event, continuation, System.currentTimeMillis()));
+        }
+        drain();
+    }
+
+    /**
+     * Redirects the waiting players, in order, until no lobby can take more players,
+     * then tells the remaining players their position in the queue.
+     */
+    private void drain() {
+        List<QueuedPlayer> released = new ArrayList<>();
+        synchronized (this) {
+            if (queue.isEmpty())
+                return;
+
+            var config = Nexus.plugin.getConfig().getLobbyRedirect();
+            var lobbyManager = Nexus.plugin.getLobbyServerManager();
+            long now = System.currentTimeMillis();
+            boolean lobbiesBusy = false;
+            Iterator<QueuedPlayer> iterator = queue.iterator();
+            while (iterator.hasNext()) {
+                QueuedPlayer queued = iterator.next();
+                Player player = queued.event.getPlayer();
+                // Leave players who left or waited too long to the result chosen by the proxy.
+                if (!player.isActive() || now - queued.enqueuedAt >= config.getMaxQueueWait()) {
+                    iterator.remove();
+                    released.add(queued);
+                    continue;
+                }
+                // Once no lobby could take a player, keep the later players waiting so the order is kept.
+                if (lobbiesBusy)
+                    continue;
+
+                RegisteredServer target = lobbyManager.acquireRedirect(queued.event.getServer(),
+                        config.getRedirectsPerSecond(), config.getRedirectBurst());
+                if (target == null) {
+                    lobbiesBusy = true;
+                    continue;
+                }
+                // Keep the reason given by the server, so kicks by moderators or plugins are still explained to the player.
+                Component message = queued.event.getServerKickReason()
+                        .orElseGet(() -> Nexus.plugin.getLocaleManager().getMessageTable(player).get(MessageKey.LOBBY_QUEUE_REDIRECTED));
+                queued.event.setResult(KickedFromServerEvent.RedirectPlayer.create(target, message));
+                iterator.remove();
+                released.add(queued);
+            }
+
+            int total = queue.size();
+            for (int i = 0; i < total; i++) {
+                queue.get(i).notifyPosition(i + 1, total, now);
+            }
+        }
+        released.forEach(queued -> queued.continuation.resume());
+    }
+
+    /**
+     * The QueuedPlayer class holds a player waiting to be redirected to a lobby server.
+     */
+    private static final class QueuedPlayer {
+        // The kick event of the player.
+        private final KickedFromServerEvent event;
+
+        // The continuation completing the kick event.
+        private final Continuation continuation;
+
+        // The time the player was queued, in milliseconds.
+        private final long enqueuedAt;
+
+        // The queue position the player was last told about.
+        private int notifiedPosition;
+
+        // The time the player was last told about their queue position, in milliseconds.
+        private long notifiedAt;
+
+        private QueuedPlayer(KickedFromServerEvent event, Continuation continuation, long enqueuedAt) {
+            this.event = event;
+            this.continuation = continuation;
+            this.enqueuedAt = enqueuedAt;
+        }
+
+        /**
+         * Tells the player their queue position if it changed, or as a reminder if it did not change for a while.
+         *
+         * @param position The position of the player in the queue.
+         * @param total    The number of waiting players.
+         * @param now      The current time, in milliseconds.
+         */
+        private void notifyPosition(int position, int total, long now) {
+            long sinceLast = now - notifiedAt;
+            if (position == notifiedPosition ? sinceLast < REMINDER_MILLIS : sinceLast < UPDATE_MILLIS)
+                return;
+
+            notifiedPosition = position;
+            notifiedAt = now;
+            MessageUtil.sendRichMsg(event.getPlayer(), MessageKey.LOBBY_QUEUE_POSITION, Map.of(
+                    "position", position,
+                    "total", total
+            ));
+        }
+    }
+}
@@ -1,40 +1,102 @@
 package io.github.tavstaldev.nexus.managers;
 
+import com.velocitypowered.api.proxy.ConnectionRequestBuilder;
+import com.velocitypowered.api.proxy.Player;
+import com.velocitypowered.api.proxy.server.PingOptions;
 import com.velocitypowered.api.proxy.server.RegisteredServer;
 import io.github.tavstaldev.nexus.Nexus;
+import io.github.tavstaldev.nexus.config.MessageKey;
+import io.github.tavstaldev.nexus.config.main.LobbyBalancingConfig;
+import io.github.tavstaldev.nexus.config.main.LobbyHealthConfig;
+import io.github.tavstaldev.nexus.models.FillFirstBalancer;
+import io.github.tavstaldev.nexus.models.HealthProbeType;
+import io.github.tavstaldev.nexus.models.ILobbyBalancer;
+import io.github.tavstaldev.nexus.models.LeastConnectionsBalancer;
+import io.github.tavstaldev.nexus.models.LobbyServerState;
+import io.github.tavstaldev.nexus.models.PowerOfTwoBalancer;
+import io.github.tavstaldev.nexus.util.MessageUtil;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.HashMap;
+import java.io.IOException;
+import java.net.Socket;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 
 /**
  * The LobbyServerManager class is responsible for managing and tracking the status of lobby servers.
  * It periodically checks the availability of servers and provides methods to retrieve the best available lobby server.
+ * <p>
+ * Every server is checked on its own schedule: stable servers rarely, servers whose state is changing often,
+ * and unavailable servers with an exponential backoff, so a dead lobby is not hammered with checks.
+ * <p>
+ * Lobbies are chosen by a configurable {@link ILobbyBalancer} from an array of the available servers,
+ * which is only rebuilt when a server changes state. The player counts it reads are maintained as players
+ * connect and disconnect, and corrected against the actual player lists whenever servers are discovered.
  */
 public class LobbyServerManager {
     // A set of server names to track.
     private final Set<String> serversToTrack;
 
-    // A map to store the tracked lobby servers and their availability status.
-    private final HashMap<RegisteredServer, Boolean> lobbyServers = new HashMap<>();
+    // The health check settings.
+    private final LobbyHealthConfig config;
+
+    // The tracked lobby servers and their health, by server name.
+    private final ConcurrentHashMap<String, LobbyServerState> lobbyServers = new ConcurrentHashMap<>();
+
+    // The available lobby servers, rebuilt whenever a server changes state.
+    private volatile LobbyServerState[] availableServers = new LobbyServerState[0];
+
+    // The lobby server state every player on a lobby is counted in.
+    private final ConcurrentHashMap<UUID, LobbyServerState> playerLobbies = new ConcurrentHashMap<>();
+
+    // The load balancing settings.
+    private final LobbyBalancingConfig balancing;
+
+    // The strategy choosing the lobby server of a player.
+    private final ILobbyBalancer balancer;
+
+    // The thread scheduling the checks.
+    private final ScheduledExecutorService scheduler;
+
+    // The virtual threads running the blocking TCP checks.
+    private final ExecutorService probeExecutor;
 
     /**
      * Constructs a LobbyServerManager with the specified set of server names to track.
-     * Initializes the lobby servers and starts a scheduled task to check their status.
+     * Starts a scheduled task that picks up the tracked servers as they are registered.
      *
      * @param serversToTrack A set of server names to track.
+     * @param config         The health check settings.
+     * @param balancing      The load balancing settings.
      */
-    public LobbyServerManager(Set<String> serversToTrack) {
+    public LobbyServerManager(Set<String> serversToTrack, LobbyHealthConfig config, LobbyBalancingConfig balancing) {
         this.serversToTrack = serversToTrack;
-        for (String serverName : serversToTrack) {
-            Nexus.plugin.getProxy().getServer(serverName).ifPresent(server -> lobbyServers.put(server, true));
-        }
-        ScheduledExecutorService executorService = Executors.newScheduledThreadPool(2);
+        this.config = config;
+        this.balancing = balancing;
+        this.balancer = switch (balancing.getStrategy()) {
+            case LEAST_CONNECTIONS -> new LeastConnectionsBalancer(balancing.getDefaultCapacity());
+            case FILL_FIRST -> new FillFirstBalancer(balancing.getDefaultCapacity(), balancing.getFillThreshold());
+            default -> new PowerOfTwoBalancer(balancing.getDefaultCapacity());
+        };
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().name("nexus-lobby-health").daemon().factory());
+        this.probeExecutor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("nexus-lobby-probe-", 0).factory());
         try {
-            executorService.scheduleAtFixedRate(this::checkServerStatus, 0L, 500L, TimeUnit.MILLISECONDS);
+            scheduler.scheduleWithFixedDelay(this::discoverServers, 0L, config.getHealthyInterval(), TimeUnit.MILLISECONDS);
         }
         catch (Exception ex) {
             Nexus.plugin.getLogger().error("Failed to start lobby server status checker task:\n" + ex.getMessage());
@@ -42,46 +104,309 @@ public class LobbyServerManager {
     }
 
     /**
-     * Periodically checks the status of the tracked lobby servers.
-     * Updates the availability status of each server and adds new servers to the tracking map if necessary.
+     * Stops checking the lobby servers. Checks that are already running are abandoned.
+     */
+    public void shutdown() {
+        scheduler.shutdownNow();
+        probeExecutor.shutdownNow();
+    }
+
+    /**
+     * Starts tracking the configured servers that have been registered since the last run,
+     * and stops tracking the servers that have been unregistered or replaced.
+     * The player counters of the tracked servers are corrected against their player lists.
+     */
+    private void discoverServers() {
+        boolean changed = false;
+        for (String serverName : serversToTrack) {
+            Optional<RegisteredServer> registered = Nexus.plugin.getProxy().getServer(serverName);
+            LobbyServerState current = lobbyServers.get(serverName);
+            if (registered.isEmpty()) {
+                if (current != null)
+                    changed |= lobbyServers.remove(serverName, current);
+                continue;
+            }
+
+            RegisteredServer server = registered.get();
+            if (current != null && current.getServer() == server) {
+                current.setPlayerCount(server.getPlayersConnected().size());
+                continue;
+            }
+
+            LobbyServerState state = new LobbyServerState(server);
+            state.setPlayerCount(server.getPlayersConnected().size());
+            if (current == null ? lobbyServers.putIfAbsent(serverName, state) == null : lobbyServers.replace(serverName, current, state)) {
+                changed = true;
+                scheduleCheck(serverName, state, 0L, state.nextCheckGeneration());
+            }
+        }
+        if (changed)
+            refreshAvailableServers();
+    }
+
+    /**
+     * Rebuilds the array of available lobby servers the balancer chooses from.
+     */
+    private synchronized void refreshAvailableServers() {
+        availableServers = lobbyServers.values().stream()
+                .filter(LobbyServerState::isAvailable)
+                .toArray(LobbyServerState[]::new);
+    }
+
+    /**
+     * Schedules the next check of a server.
+     *
+     * @param serverName The name of the server.
+     * @param state      The state of the server.
+     * @param delay      The delay before the check, in milliseconds.
+     * @param generation The generation of the check.
+     */
+    private void scheduleCheck(String serverName, LobbyServerState state, long delay, int generation) {
+        try {
+            scheduler.schedule(() -> checkServer(serverName, state, generation), delay, TimeUnit.MILLISECONDS);
+        }
+        catch (RejectedExecutionException ignored) {
+            // The manager has been shut down.
+        }
+    }
+
+    /**
+     * Checks a server, records the round-trip time of the check and schedules its next check based on the result.
+     * Servers that are no longer tracked by this state are not checked again, and checks replaced by
+     * a newer generation are dropped.
+     *
+     * @param serverName The name of the server.
+     * @param state      The state of the server.
+     * @param generation The generation of the check.
+     */
+    private void checkServer(String serverName, LobbyServerState state, int generation) {
+        if (lobbyServers.get(serverName) != state || !state.isCurrentCheck(generation))
+            return;
+
+        RegisteredServer server = state.getServer();
+        long started = System.nanoTime();
+        CompletableFuture<Boolean> probe = config.getProbeType() == HealthProbeType.TCP ? probeTcp(server) : probePing(state);
+        probe.orTimeout(config.getProbeTimeout() * 2, TimeUnit.MILLISECONDS).whenComplete((result, ex) -> {
+            long now = System.currentTimeMillis();
+            boolean changed;
+            if (ex == null && result) {
+                changed = state.recordSuccess(now, (System.nanoTime() - started) / 1000L, config.getRecoveryThreshold());
+                if (changed)
+                    Nexus.plugin.getLogger().info("Lobby server is available again: " + serverName);
+            } else {
+                changed = state.recordFailure(now, config.getFailureThreshold());
+                if (changed)
+                    Nexus.plugin.getLogger().warn("Lobby server is unavailable: " + serverName);
+            }
+            if (changed)
+                refreshAvailableServers();
+            if (!state.isCurrentCheck(generation))
+                return;
+            scheduleCheck(serverName, state, state.nextCheckDelay(now,
+                    config.getHealthyInterval(),
+                    config.getUnstableInterval(),
+                    config.getUnstableWindow(),
+                    config.getFailureThreshold(),
+                    config.getMaxBackoff()), generation);
+        });
+    }
+
+    /**
+     * Checks a server by sending it a server list ping. The maximum player count of the answer
+     * is stored as the capacity of the server.
+     *
+     * @param state The state of the server to check.
+     * @return A future completing with true if the server answered the ping.
+     */
+    private CompletableFuture<Boolean> probePing(LobbyServerState state) {
+        PingOptions options = PingOptions.builder().timeout(Duration.ofMillis(config.getProbeTimeout())).build();
+        return state.getServer().ping(options).thenApply(result -> {
+            if (result == null)
+                return false;
+            result.getPlayers().ifPresent(players -> state.setCapacity(players.getMax()));
+            return true;
+        });
+    }
+
+    /**
+     * Checks a server by opening a TCP connection to it.
+     *
+     * @param server The server to check.
+     * @return A future completing with true if the connection was accepted.
      */
-    private void checkServerStatus() {
-        lobbyServers.keySet().forEach(server ->
-                server.ping().thenAcceptAsync(result ->
-                        lobbyServers.put(server, result != null)
-                )
-        );
-        serversToTrack.forEach(serverName ->
-                Nexus.plugin.getProxy().getServer(serverName).ifPresent(server ->
-                        lobbyServers.putIfAbsent(server, true)
-                )
-        );
+    private CompletableFuture<Boolean> probeTcp(RegisteredServer server) {
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                try (Socket socket = new Socket()) {
+                    socket.connect(server.getServerInfo().getAddress(), (int) config.getProbeTimeout());
+                    return true;
+                }
+                catch (IOException ex) {
+                    return false;
+                }
+            }, probeExecutor);
+        }
+        catch (RejectedExecutionException ex) {
+            return CompletableFuture.failedFuture(ex);
+        }
     }
 
     /**
-     * Retrieves the best available lobby server based on the number of connected players.
-     * If multiple servers are available, the one with the fewest players is selected.
+     * Retrieves the best available lobby server, as chosen by the configured balancing strategy.
      *
      * @return The best available lobby server, or null if no servers are available.
      */
     public @Nullable RegisteredServer getLobbyServer() {
-        if (lobbyServers.isEmpty()) {
-            return null;
+        LobbyServerState state = balancer.select(availableServers);
+        return state == null ? null : state.getServer();
+    }
+
+    /**
+     * Retrieves the best available lobby server that is not one of the excluded servers,
+     * as chosen by the configured balancing strategy.
+     *
+     * @param excluded The servers to skip, e.g. the servers a player already failed to connect to.
+     * @return The best available lobby server, or null if no other server is available.
+     */
+    public @Nullable RegisteredServer getLobbyServer(Collection<RegisteredServer> excluded) {
+        if (excluded.isEmpty())
+            return getLobbyServer();
+
+        LobbyServerState state = balancer.select(Arrays.stream(availableServers)
+                .filter(candidate -> !excluded.contains(candidate.getServer()))
+                .toArray(LobbyServerState[]::new));
+        return state == null ? null : state.getServer();
+    }
+
+    /**
+     * Marks a lobby server unavailable right away, so other players skip it without waiting for its next check.
+     * The server is checked again immediately and becomes available once enough checks succeed.
+     *
+     * @param server The server a player could not reach.
+     */
+    public void markSuspect(RegisteredServer server) {
+        String serverName = server.getServerInfo().getName();
+        LobbyServerState state = lobbyServers.get(serverName);
+        if (state == null || state.getServer() != server)
+            return;
+
+        if (state.markSuspect(System.currentTimeMillis(), config.getFailureThreshold())) {
+            Nexus.plugin.getLogger().warn("Lobby server is suspected to be unavailable: " + serverName);
+            refreshAvailableServers();
+            scheduleCheck(serverName, state, 0L, state.nextCheckGeneration());
         }
-        int currentPlayers = Integer.MAX_VALUE;
-        RegisteredServer bestServer = null;
-        for (RegisteredServer server : lobbyServers.keySet()) {
-            if (!lobbyServers.get(server)) {
-                continue;
-            }
+    }
 
-            int serverPlayers = server.getPlayersConnected().size();
-            if (serverPlayers < currentPlayers) {
-                currentPlayers = serverPlayers;
-                bestServer = server;
+    /**
+     * Connects a player to a lobby server. If the lobby does not accept the player, the player is sent to
+     * the next best lobby server instead, up to the configured number of attempts.
+     * <p>
+     * Only a lobby that could not be reached at all is marked suspect. A lobby that refused the player,
+     * e.g. because it is full or the player is banned there, is only skipped for this player.
+     *
+     * @param player The player to connect.
+     * @param server The lobby server to connect the player to first.
+     * @return A future completing with the result of the last attempt, or with null if it failed with an error.
+     */
+    public CompletableFuture<ConnectionRequestBuilder.Result> connectToLobby(Player player, RegisteredServer server) {
+        return connectToLobby(player, server, new ArrayList<>(), Math.max(1, balancing.getMaxConnectAttempts()));
+    }
+
+    /**
+     * Makes a connection attempt of {@link #connectToLobby(Player, RegisteredServer)}.
+     *
+     * @param player       The player to connect.
+     * @param server       The server to connect the player to.
+     * @param tried        The servers the player failed to connect to so far.
+     * @param attemptsLeft The number of attempts left, including this one.
+     * @return A future completing with the result of the last attempt, or with null if it failed with an error.
+     */
+    private CompletableFuture<ConnectionRequestBuilder.Result> connectToLobby(Player player, RegisteredServer server, List<RegisteredServer> tried, int attemptsLeft) {
+        return player.createConnectionRequest(server).connect()
+                .exceptionally(ex -> null)
+                .thenCompose(result -> {
+                    // Only fail over when the server itself did not accept the player.
+                    if (result != null && result.getStatus() != ConnectionRequestBuilder.Status.SERVER_DISCONNECTED)
+                        return CompletableFuture.completedFuture(result);
+
+                    // A connection that failed with an error means the server could not be reached, which affects every player.
+                    if (result == null)
+                        markSuspect(server);
+                    tried.add(server);
+                    RegisteredServer next = attemptsLeft > 1 && player.isActive() ? getLobbyServer(tried) : null;
+                    if (next == null)
+                        return CompletableFuture.completedFuture(result);
+
+                    MessageUtil.sendRichMsg(player, MessageKey.LOBBY_CONNECT_RETRY, Map.of(
+                            "failed", server.getServerInfo().getName(),
+                            "server", next.getServerInfo().getName()
+                    ));
+                    return connectToLobby(player, next, tried, attemptsLeft - 1);
+                });
+    }
+
+    /**
+     * Chooses a lobby server for a redirected player, limiting how many players are sent to every lobby.
+     * The lobby chosen by the balancing strategy is skipped if it received too many players recently.
+     *
+     * @param excluded           The server the player is redirected from, or null.
+     * @param redirectsPerSecond The number of players a lobby may receive per second.
+     * @param burst              The number of players a lobby may receive at once.
+     * @return The lobby server to redirect the player to, or null if every lobby is unavailable or busy.
+     */
+    public @Nullable RegisteredServer acquireRedirect(@Nullable RegisteredServer excluded, double redirectsPerSecond, int burst) {
+        long now = System.nanoTime();
+        LobbyServerState[] candidates = Arrays.stream(availableServers)
+                .filter(state -> state.getServer() != excluded)
+                .toArray(LobbyServerState[]::new);
+        int count = candidates.length;
+        while (count > 0) {
+            LobbyServerState chosen = balancer.select(count == candidates.length ? candidates : Arrays.copyOf(candidates, count));
+            if (chosen == null)
+                return null;
+            if (chosen.tryAcquireRedirect(now, redirectsPerSecond, burst))
+                return chosen.getServer();
+
+            // Move the busy lobby out of the candidates and choose again.
+            for (int i = 0; i < count; i++) {
+                if (candidates[i] == chosen) {
+                    candidates[i] = candidates[--count];
+                    break;
+                }
             }
         }
-        return bestServer;
+        return null;
+    }
+
+    /**
+     * Updates the player counters after a player connected to a server.
+     *
+     * @param player The player.
+     * @param server The server the player connected to.
+     */
+    public void updatePlayer(Player player, RegisteredServer server) {
+        LobbyServerState state = lobbyServers.get(server.getServerInfo().getName());
+        if (state != null && state.getServer() != server)
+            state = null;
+
+        LobbyServerState previous = state == null
+                ? playerLobbies.remove(player.getUniqueId())
+                : playerLobbies.put(player.getUniqueId(), state);
+        if (previous != null)
+            previous.removePlayer();
+        if (state != null)
+            state.addPlayer();
+    }
+
+    /**
+     * Updates the player counters after a player disconnected from the proxy.
+     *
+     * @param player The player.
+     */
+    public void removePlayer(Player player) {
+        LobbyServerState previous = playerLobbies.remove(player.getUniqueId());
+        if (previous != null)
+            previous.removePlayer();
     }
 
     /**
@@ -91,6 +416,16 @@ public class LobbyServerManager {
      * @return True if the server is a tracked lobby server, false otherwise.
      */
     public boolean isLobbyServer(RegisteredServer server) {
-        return lobbyServers.containsKey(server);
+        LobbyServerState state = lobbyServers.get(server.getServerInfo().getName());
+        return state != null && state.getServer() == server;
+    }
+
+    /**
+     * Retrieves the health of the tracked lobby servers.
+     *
+     * @return An unmodifiable view of the tracked lobby server states.
+     */
+    public Collection<LobbyServerState> getServerStates() {
+        return Collections.unmodifiableCollection(lobbyServers.values());
     }
-}
\ No newline at end of file
+}
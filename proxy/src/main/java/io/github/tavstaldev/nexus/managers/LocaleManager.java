@@ -0,0 +1,82 @@
+package io.github.tavstaldev.nexus.managers;
+
+import com.velocitypowered.api.command.CommandSource;
+import com.velocitypowered.api.proxy.Player;
+import io.github.tavstaldev.nexus.Nexus;
+import io.github.tavstaldev.nexus.config.LocalizedMessageTables;
+import io.github.tavstaldev.nexus.config.MessageTable;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The LocaleManager class resolves the message table used for each player.
+ * The locale of a player is resolved once and remembered for the session. It is resolved again
+ * when the player changes their client settings or when the messages are reloaded.
+ */
+public class LocaleManager {
+    // The resolved message tables of the online players, keyed by their UUID.
+    private final Map<UUID, ResolvedTable> resolvedTables = new ConcurrentHashMap<>();
+
+    /**
+     * Retrieves the message table to use for a command source.
+     * Players receive the table of their locale, every other source receives the default table.
+     *
+     * @param source The command source receiving a message.
+     * @return The MessageTable of the source.
+     */
+    public MessageTable getMessageTable(@NotNull CommandSource source) {
+        LocalizedMessageTables tables = Nexus.plugin.getConfigurationLoader().getMessageTables();
+        if (!(source instanceof Player player))
+            return tables.getDefault();
+
+        ResolvedTable resolved = resolvedTables.get(player.getUniqueId());
+        if (resolved != null && resolved.tables == tables)
+            return resolved.table;
+
+        MessageTable table = tables.resolve(player.getEffectiveLocale());
+        // Players that already left are not remembered.
+        if (!player.isActive())
+            return table;
+        UUID uuid = player.getUniqueId();
+        ResolvedTable entry = new ResolvedTable(tables, table);
+        resolvedTables.put(uuid, entry);
+        // The player may have disconnected, and their entry been removed, while the entry was stored.
+        if (!player.isActive())
+            resolvedTables.remove(uuid, entry);
+        return table;
+    }
+
+    /**
+     * Forgets the resolved table of a player, so it is resolved again on the next message.
+     *
+     * @param player The player whose locale may have changed.
+     */
+    public void invalidate(@NotNull Player player) {
+        resolvedTables.remove(player.getUniqueId());
+    }
+
+    /**
+     * Forgets the resolved table of a player who disconnected.
+     *
+     * @param player The player who disconnected.
+     */
+    public void removePlayer(@NotNull Player player) {
+        resolvedTables.remove(player.getUniqueId());
+    }
+
+    /**
+     * A message table resolved for a player, together with the tables it was resolved from.
+     */
+    private static final class ResolvedTable {
+        private final LocalizedMessageTables tables;
+        private final MessageTable table;
+
+        private ResolvedTable(LocalizedMessageTables tables, MessageTable table) {
+            this.tables = tables;
+            this.table = table;
+        }
+    }
+}
@@ -0,0 +1,239 @@
+package io.github.tavstaldev.nexus.managers;
+
+import com.velocitypowered.api.network.ProtocolVersion;
+import com.velocitypowered.api.proxy.InboundConnection;
+import com.velocitypowered.api.scheduler.ScheduledTask;
+import io.github.tavstaldev.nexus.Nexus;
+import io.github.tavstaldev.nexus.util.AddressUtil;
+import io.github.tavstaldev.nexus.util.HyperLogLog;
+import io.github.tavstaldev.nexus.util.TopKCounter;
+import org.jetbrains.annotations.NotNull;
+
+import java.net.InetAddress;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The PingAnalyticsManager class collects statistics about the server list pings sent to the proxy.
+ * <p>
+ * Unique source addresses are counted per minute with {@link HyperLogLog} sketches, the heaviest
+ * pinging addresses are tracked with {@link TopKCounter}s, and pings are counted per protocol version.
+ * Every structure has a fixed size, so the memory used does not depend on the amount of traffic.
+ * <p>
+ * The heaviest addresses are split over several counters by the hash of the address, so pings from
+ * different addresses rarely contend for the same lock during a flood. An address always lands in the
+ * same counter, so the counters track disjoint addresses and are simply combined when they are read.
+ */
+public class PingAnalyticsManager {
+    // The number of bits selecting the register of the unique address sketches, about 3% standard error.
+    private static final int PRECISION = 10;
+
+    // The number of minutes unique addresses are remembered for.
+    private static final int MINUTES = 60;
+
+    // The number of heaviest pinging addresses tracked per minute and counter.
+    private static final int TOP_CAPACITY = 32;
+
+    // The number of counters the heaviest pinging addresses are split over, a power of two.
+    private static final int TOP_STRIPES = 16;
+
+    // The unique address sketches of the last hour, one per minute.
+    private final HyperLogLog[] minutes = new HyperLogLog[MINUTES];
+
+    // The index of the sketch of the current minute.
+    private volatile int currentMinute;
+
+    // The heaviest pinging addresses of the current minute.
+    private volatile TopKCounter<InetAddress>[] currentTop = createTopCounters();
+
+    // The heaviest pinging addresses of the previous minute.
+    private volatile TopKCounter<InetAddress>[] previousTop = createTopCounters();
+
+    // The number of pings per protocol version, indexed by the ordinal of the version.
+    private final LongAdder[] protocols = new LongAdder[ProtocolVersion.values().length];
+
+    // The number of pings received.
+    private final LongAdder pings = new LongAdder();
+
+    // The task moving on to the next minute.
+    private ScheduledTask rotationTask;
+
+    /**
+     * Constructs a new PingAnalyticsManager.
+     */
+    public PingAnalyticsManager() {
+        for (int i = 0; i < MINUTES; i++) {
+            minutes[i] = new HyperLogLog(PRECISION);
+        }
+        for (int i = 0; i < protocols.length; i++) {
+            protocols[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Starts moving on to a new minute every minute.
+     */
+    public synchronized void start() {
+        if (rotationTask != null)
+            rotationTask.cancel();
+        rotationTask = Nexus.plugin.getProxy().getScheduler()
+                .buildTask(Nexus.plugin, this::rotate)
+                .delay(1, TimeUnit.MINUTES)
+                .repeat(1, TimeUnit.MINUTES)
+                .schedule();
+    }
+
+    /**
+     * Stops moving on to new minutes.
+     */
+    public synchronized void shutdown() {
+        if (rotationTask != null) {
+            rotationTask.cancel();
+            rotationTask = null;
+        }
+    }
+
+    /**
+     * Records a ping.
+     *
+     * @param connection The connection sending the ping.
+     */
+    public void record(@NotNull InboundConnection connection) {
+        pings.increment();
+        protocols[connection.getProtocolVersion().ordinal()].increment();
+
+        InetAddress address = connection.getRemoteAddress().getAddress();
+        if (address == null)
+            return;
+        long key = AddressUtil.addressKey(address);
+        minutes[currentMinute].add(key);
+        currentTop[topStripe(key)].offer(key, address);
+    }
+
+    /**
+     * Creates the counters of the heaviest pinging addresses of a minute.
+     *
+     * @return The counters, one per stripe.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static TopKCounter<InetAddress>[] createTopCounters() {
+        TopKCounter<InetAddress>[] counters = new TopKCounter[TOP_STRIPES];
+        for (int i = 0; i < TOP_STRIPES; i++) {
+            counters[i] = new TopKCounter<>(TOP_CAPACITY);
+        }
+        return counters;
+    }
+
+    /**
+     * Calculates the counter an address is counted in.
+     *
+     * @param key The key of the address.
+     * @return The index of the counter.
+     */
+    private static int topStripe(long key) {
+        // Use the top bits of a multiplicative hash, the low bits of nearby addresses are too similar.
+        long mixed = key * 0x9E3779B97F4A7C15L;
+        return (int) (mixed >>> (Long.SIZE - Integer.numberOfTrailingZeros(TOP_STRIPES)));
+    }
+
+    /**
+     * Retrieves the number of pings received since the proxy started.
+     *
+     * @return The number of pings.
+     */
+    public long getPingCount() {
+        return pings.sum();
+    }
+
+    /**
+     * Estimates the number of unique addresses that sent pings in the current minute.
+     *
+     * @return The estimated number of unique addresses.
+     */
+    public long getUniqueAddressesThisMinute() {
+        return minutes[currentMinute].estimate();
+    }
+
+    /**
+     * Estimates the number of unique addresses that sent pings in the previous minute.
+     *
+     * @return The estimated number of unique addresses.
+     */
+    public long getUniqueAddressesLastMinute() {
+        return minutes[Math.floorMod(currentMinute - 1, MINUTES)].estimate();
+    }
+
+    /**
+     * Estimates the number of unique addresses that sent pings in the last hour.
+     *
+     * @return The estimated number of unique addresses.
+     */
+    public long getUniqueAddressesLastHour() {
+        return HyperLogLog.estimateUnion(minutes);
+    }
+
+    /**
+     * Retrieves the addresses that sent the most pings in the current and the previous minute.
+     * Counts are upper bounds, see {@link TopKCounter}.
+     *
+     * @param limit The maximum number of addresses to return.
+     * @return The addresses and their ping counts, from the heaviest to the lightest.
+     */
+    public List<Map.Entry<InetAddress, Long>> getTopAddresses(int limit) {
+        Map<InetAddress, Long> counts = new HashMap<>();
+        for (var counters : List.of(previousTop, currentTop)) {
+            for (var counter : counters) {
+                for (var entry : counter.getTop(TOP_CAPACITY)) {
+                    counts.merge(entry.getLabel(), entry.getCount(), Long::sum);
+                }
+            }
+        }
+        List<Map.Entry<InetAddress, Long>> top = new ArrayList<>(counts.entrySet());
+        top.sort(Map.Entry.<InetAddress, Long>comparingByValue().reversed());
+        return top.size() > limit ? top.subList(0, limit) : top;
+    }
+
+    /**
+     * Retrieves the number of pings per protocol version since the proxy started.
+     *
+     * @return The protocol versions that sent pings and their ping counts, from the most to the least used.
+     */
+    public Map<ProtocolVersion, Long> getProtocolCounts() {
+        ProtocolVersion[] versions = ProtocolVersion.values();
+        List<Map.Entry<ProtocolVersion, Long>> counts = new ArrayList<>();
+        for (int i = 0; i < versions.length; i++) {
+            long count = protocols[i].sum();
+            if (count > 0)
+                counts.add(Map.entry(versions[i], count));
+        }
+        counts.sort(Map.Entry.<ProtocolVersion, Long>comparingByValue(Comparator.reverseOrder()));
+
+        Map<ProtocolVersion, Long> result = new LinkedHashMap<>();
+        for (var entry : counts) {
+            result.put(entry.getKey(), entry.getValue());
+        }
+        return result;
+    }
+
+    /**
+     * Moves on to the next minute, reusing the sketch of the minute an hour ago.
+     */
+    private void rotate() {
+        int next = (currentMinute + 1) % MINUTES;
+        minutes[next].clear();
+        currentMinute = next;
+
+        TopKCounter<InetAddress>[] expired = previousTop;
+        for (var counter : expired) {
+            counter.clear();
+        }
+        previousTop = currentTop;
+        currentTop = expired;
+    }
+}
@@ -0,0 +1,83 @@
+package io.github.tavstaldev.nexus.managers;
+
+import io.github.tavstaldev.nexus.Nexus;
+import io.github.tavstaldev.nexus.util.AddressUtil;
+import io.github.tavstaldev.nexus.util.TokenBucketTable;
+import org.jetbrains.annotations.NotNull;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The PingLimitManager class rate limits the server list pings sent to the proxy.
+ * <p>
+ * Every ping takes a token from the bucket of its source address and from the bucket of its network
+ * (/24 for IPv4, /48 for IPv6), so both a single flooding client and a flood spread over many addresses
+ * of a network are throttled. Buckets live in fixed-size {@link TokenBucketTable}s, so the memory used
+ * does not grow with the number of addresses sending pings.
+ */
+public class PingLimitManager {
+    // The buckets of the source addresses.
+    private volatile TokenBucketTable addressBuckets;
+
+    // The buckets of the source networks.
+    private volatile TokenBucketTable networkBuckets;
+
+    // The number of pings rejected because their address ran out of tokens.
+    private final LongAdder rejectedByAddress = new LongAdder();
+
+    // The number of pings rejected because their network ran out of tokens.
+    private final LongAdder rejectedByNetwork = new LongAdder();
+
+    /**
+     * Creates the bucket tables from the configuration. Previously tracked addresses are forgotten.
+     */
+    public void load() {
+        var config = Nexus.plugin.getConfig().getServerPinger().getLimiter();
+        addressBuckets = new TokenBucketTable(config.getTableSize(), config.getAddressBurst(), config.getAddressRate());
+        networkBuckets = new TokenBucketTable(config.getTableSize(), config.getNetworkBurst(), config.getNetworkRate());
+    }
+
+    /**
+     * Checks whether a ping from the specified address may be answered.
+     *
+     * @param remoteAddress The address the ping was sent from.
+     * @return True if the ping is allowed, false if it was rate limited.
+     */
+    public boolean tryAcquire(@NotNull InetSocketAddress remoteAddress) {
+        TokenBucketTable addresses = addressBuckets;
+        TokenBucketTable networks = networkBuckets;
+        InetAddress address = remoteAddress.getAddress();
+        if (addresses == null || networks == null || address == null)
+            return true;
+
+        if (!addresses.tryAcquire(AddressUtil.addressKey(address))) {
+            rejectedByAddress.increment();
+            return false;
+        }
+        if (!networks.tryAcquire(AddressUtil.networkKey(address))) {
+            rejectedByNetwork.increment();
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Retrieves the number of pings rejected because their address sent too many pings.
+     *
+     * @return The number of pings rejected per address.
+     */
+    public long getRejectedByAddressCount() {
+        return rejectedByAddress.sum();
+    }
+
+    /**
+     * Retrieves the number of pings rejected because their network sent too many pings.
+     *
+     * @return The number of pings rejected per network.
+     */
+    public long getRejectedByNetworkCount() {
+        return rejectedByNetwork.sum();
+    }
+}
@@ -0,0 +1,560 @@
+package io.github.tavstaldev.nexus.managers;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.velocitypowered.api.network.ProtocolVersion;
+import com.velocitypowered.api.proxy.InboundConnection;
+import com.velocitypowered.api.proxy.server.ServerPing;
+import io.github.tavstaldev.nexus.Nexus;
+import io.github.tavstaldev.nexus.config.main.pinger.PingProfileConfig;
+import io.github.tavstaldev.nexus.config.main.pinger.ServerFavIconConfig;
+import io.github.tavstaldev.nexus.config.main.pinger.ServerMotdConfig;
+import io.github.tavstaldev.nexus.config.main.pinger.ServerSpooferConfig;
+import io.github.tavstaldev.nexus.util.ChatUtil;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.net.InetSocketAddress;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * The PingResponseManager class builds the server list ping responses and caches them
+ * per virtual host and client protocol version.
+ * <p>
+ * A cached response is served as long as it is younger than the configured TTL. Once it is older,
+ * it is still served for one more TTL while a fresh response is built in the background, so busy keys
+ * never wait for a response to be built. After that grace period the response is evicted, and the next
+ * ping builds a fresh one, so a key that was quiet for a while never gets an old player count.
+ * <p>
+ * The MOTDs, favicon and spoofer of a response come from a ping profile, chosen by the virtual host
+ * and protocol version of the client. Profiles are resolved into a lookup table when they are loaded,
+ * so choosing the profile of a ping is a single hash lookup and an array access.
+ * <p>
+ * While maintenance mode is enabled, every ping is answered from the maintenance profile instead.
+ * Switching maintenance mode swaps the active lookup table in one write, and responses cached
+ * for the previous table are no longer served.
+ */
+public class PingResponseManager {
+    // How many TTLs after it was built a response is evicted. It is served stale while being refreshed in between.
+    private static final int STALE_TTL_MULTIPLIER = 2;
+
+    // The cached responses. Virtual hosts are sent by the client, so the cache is bounded.
+    private volatile Cache<@NotNull PingKey, @NotNull CachedPing> responses = createCache(1000);
+
+    // The TTL the cache was created with, in milliseconds.
+    private volatile int cacheTtl = 1000;
+
+    // The description shown when no MOTDs are configured.
+    private static final Component NO_MOTD = Component.text("No motds found!");
+
+    // The profiles of the pings, indexed by virtual host and protocol version.
+    private volatile ProfileTable normalProfiles = ProfileTable.EMPTY;
+
+    // The profiles of the pings while maintenance mode is enabled, or null if there is no maintenance profile.
+    private volatile ProfileTable maintenanceProfiles;
+
+    // The lookup table currently used to answer pings.
+    private volatile ProfileTable profiles = ProfileTable.EMPTY;
+
+    /**
+     * Compiles the configured MOTDs, binds them to their icons, resolves the ping profiles
+     * and discards the cached responses.
+     * Must be called after the icons are loaded and the sample player pools are created.
+     * Synchronized with {@link #setMaintenance}, so a maintenance toggle during a reload cannot pick a stale table.
+     */
+    public synchronized void load() {
+        var serverPinger = Nexus.plugin.getConfig().getServerPinger();
+        if (serverPinger.getMotds().isEmpty())
+            Nexus.plugin.getLogger().warn("No motds found in configuration!");
+
+        PingProfile defaultProfile = compileProfile(serverPinger.getMotds(), serverPinger.getFavIcon(), serverPinger.getSpoofer(), null);
+        List<PingProfileConfig> configuredProfiles = serverPinger.getProfiles() == null ? List.of() : serverPinger.getProfiles();
+        PingProfile[] compiled = new PingProfile[configuredProfiles.size()];
+        Set<String> hosts = new LinkedHashSet<>();
+        for (int i = 0; i < compiled.length; i++) {
+            var profile = configuredProfiles.get(i);
+            compiled[i] = compileProfile(profile.getMotds(), profile.getFavIcon(), profile.getSpoofer(), defaultProfile);
+            for (String host : normalizeHosts(profile)) {
+                hosts.add(host);
+            }
+        }
+
+        Map<String, PingProfile[]> byHost = new HashMap<>();
+        for (String host : hosts) {
+            byHost.put(host, resolveProfiles(host, configuredProfiles, compiled, defaultProfile));
+        }
+        normalProfiles = new ProfileTable(Map.copyOf(byHost), resolveProfiles(null, configuredProfiles, compiled, defaultProfile));
+
+        var maintenance = serverPinger.getMaintenance();
+        if (maintenance != null && maintenance.isEnabled()) {
+            PingProfile maintenanceProfile = compileProfile(maintenance.getMotds(), maintenance.getFavIcon(), null, defaultProfile)
+                    .withVersionText(maintenance.getVersionText());
+            PingProfile[] allVersions = new PingProfile[ProtocolVersion.values().length];
+            Arrays.fill(allVersions, maintenanceProfile);
+            maintenanceProfiles = new ProfileTable(Map.of(), allVersions);
+        } else {
+            maintenanceProfiles = null;
+        }
+        setMaintenance(Nexus.plugin.getMaintenanceSettings().isEnabled());
+    }
+
+    /**
+     * Switches between the normal and the maintenance ping profiles.
+     * Cached responses of the previous profiles are discarded.
+     *
+     * @param enabled Whether maintenance mode is enabled.
+     */
+    public synchronized void setMaintenance(boolean enabled) {
+        ProfileTable maintenance = maintenanceProfiles;
+        profiles = enabled && maintenance != null ? maintenance : normalProfiles;
+        invalidate();
+    }
+
+    /**
+     * Retrieves the cached response of a connection. If the response is older than the TTL,
+     * a refresh is started in the background and the stale response is returned meanwhile.
+     *
+     * @param connection The connection sending the ping.
+     * @param base       The ping prepared by the proxy, used to build the refreshed response.
+     * @return The cached ServerPing, or null if there is no usable cached response.
+     */
+    public @Nullable ServerPing getCachedResponse(@NotNull InboundConnection connection, @NotNull ServerPing base) {
+        int ttl = Nexus.plugin.getConfig().getServerPinger().getCacheTtl();
+        if (ttl <= 0)
+            return null;
+        if (ttl != cacheTtl)
+            resize(ttl);
+
+        PingKey key = PingKey.of(connection);
+        CachedPing cached = responses.getIfPresent(key);
+        ProfileTable table = profiles;
+        // Responses built from a table that was swapped out since are not served.
+        if (cached == null || cached.table != table)
+            return null;
+
+        if (System.currentTimeMillis() >= cached.refreshAt && cached.refreshing.compareAndSet(false, true)) {
+            Nexus.plugin.getProxy().getScheduler()
+                    .buildTask(Nexus.plugin, () -> store(key, createResponse(base, table.resolve(key)), table, ttl))
+                    .schedule();
+        }
+        return cached.ping;
+    }
+
+    /**
+     * Builds the response of a connection and caches it.
+     *
+     * @param connection The connection sending the ping.
+     * @param base       The ping prepared by the proxy.
+     * @return The built ServerPing.
+     */
+    public ServerPing buildResponse(@NotNull InboundConnection connection, @NotNull ServerPing base) {
+        PingKey key = PingKey.of(connection);
+        ProfileTable table = profiles;
+        ServerPing ping = createResponse(base, table.resolve(key));
+        int ttl = Nexus.plugin.getConfig().getServerPinger().getCacheTtl();
+        if (ttl > 0)
+            store(key, ping, table, ttl);
+        return ping;
+    }
+
+    /**
+     * Discards every cached response, so the next pings are built from the current configuration.
+     */
+    public void invalidate() {
+        responses.invalidateAll();
+    }
+
+    /**
+     * Caches a response.
+     *
+     * @param key   The virtual host and protocol version of the response.
+     * @param ping  The response.
+     * @param table The profile table the response was built from.
+     * @param ttl   The TTL of the response, in milliseconds.
+     */
+    private void store(@NotNull PingKey key, @NotNull ServerPing ping, @NotNull ProfileTable table, int ttl) {
+        responses.put(key, new CachedPing(ping, table, System.currentTimeMillis() + ttl));
+    }
+
+    /**
+     * Recreates the cache after the TTL was changed.
+     *
+     * @param ttl The new TTL, in milliseconds.
+     */
+    private synchronized void resize(int ttl) {
+        if (ttl == cacheTtl)
+            return;
+        responses = createCache(ttl);
+        cacheTtl = ttl;
+    }
+
+    /**
+     * Creates the response cache, evicting responses once their stale grace period is over.
+     *
+     * @param ttl The TTL of the responses, in milliseconds.
+     * @return The new Cache.
+     */
+    private static Cache<@NotNull PingKey, @NotNull CachedPing> createCache(int ttl) {
+        return CacheBuilder.newBuilder()
+                .maximumSize(1024)
+                .expireAfterWrite((long) ttl * STALE_TTL_MULTIPLIER, TimeUnit.MILLISECONDS)
+                .build();
+    }
+
+    /**
+     * Builds a response based on a ping profile, including player count spoofing,
+     * MOTD selection and favicon customization.
+     *
+     * @param base    The ping prepared by the proxy.
+     * @param profile The profile of the ping.
+     * @return The built ServerPing.
+     */
+    private ServerPing createResponse(@NotNull ServerPing base, @NotNull PingProfile profile) {
+        var spoofer = profile.spoofer;
+        ServerPing.Builder pong = base.asBuilder();
+        int playerCount;
+        if (profile.samplePool == null) {
+            playerCount = Nexus.plugin.getProxy().getPlayerCount();
+        } else {
+            // The players of the target servers are tracked by the sample player manager.
+            playerCount = profile.samplePool.getPlayerCount();
+            pong.clearSamplePlayers();
+            pong.samplePlayers(profile.samplePool.getSample());
+        }
+
+        CompiledMotd motd = this.selectMotd(profile);
+        var favIcon = motd == null ? null : motd.icon.resolve();
+        if (favIcon == null)
+            favIcon = profile.icon.resolve();
+        if (favIcon != null)
+            pong.favicon(favIcon);
+        pong.description(motd == null ? NO_MOTD : motd.currentFrame());
+        if (profile.version != null) {
+            pong.version(profile.version);
+        }
+        if (spoofer.disablePlayerHoverList()) {
+            pong.clearSamplePlayers();
+        }
+        if (spoofer.hidePlayerCount()) {
+            pong.nullPlayers();
+        } else {
+            pong.onlinePlayers(playerCount);
+        }
+        return pong.build();
+    }
+
+    /**
+     * Selects a random MOTD (Message of the Day) from the MOTDs of a profile.
+     * If only one MOTD is available, it is returned directly.
+     *
+     * @param profile The profile of the ping.
+     * @return The selected MOTD, or null if no MOTDs are configured.
+     */
+    private @Nullable CompiledMotd selectMotd(@NotNull PingProfile profile) {
+        CompiledMotd[] motds = profile.motds;
+        if (motds.length == 0)
+            return null;
+        // If only one motd is found, return it directly
+        if (motds.length == 1)
+            return motds[0];
+        return motds[ThreadLocalRandom.current().nextInt(motds.length)];
+    }
+
+    /**
+     * Compiles the MOTDs of a profile and binds its favicon and sample player pool.
+     * Settings missing from the profile are taken from the fallback profile.
+     *
+     * @param motds    The configured MOTDs.
+     * @param favIcon  The configured favicon, or null to use the favicon of the fallback.
+     * @param spoofer  The configured spoofer, or null to use the spoofer of the fallback.
+     * @param fallback The profile to take missing settings from, or null if this is the default profile.
+     * @return The compiled PingProfile.
+     */
+    private static PingProfile compileProfile(@Nullable List<ServerMotdConfig> motds, @Nullable ServerFavIconConfig favIcon,
+                                              @Nullable ServerSpooferConfig spoofer, @Nullable PingProfile fallback) {
+        CompiledMotd[] compiled;
+        if ((motds == null || motds.isEmpty()) && fallback != null) {
+            compiled = fallback.motds;
+        } else {
+            compiled = new CompiledMotd[motds == null ? 0 : motds.size()];
+            for (int i = 0; i < compiled.length; i++) {
+                compiled[i] = compileMotd(motds.get(i));
+            }
+        }
+
+        var icon = favIcon == null && fallback != null
+                ? fallback.icon
+                : favIcon == null ? FavIconManager.IconBinding.NONE : Nexus.plugin.getFavIconManager().bind(favIcon);
+        if (spoofer == null && fallback != null)
+            return new PingProfile(compiled, icon, fallback.spoofer, fallback.samplePool);
+        if (spoofer == null)
+            spoofer = new ServerSpooferConfig();
+        return new PingProfile(compiled, icon, spoofer, Nexus.plugin.getSamplePlayerManager().getPool(spoofer));
+    }
+
+    /**
+     * Resolves the profile of every protocol version for a virtual host.
+     *
+     * @param host               The lowercase virtual host, or null for hosts not named by any profile.
+     * @param configuredProfiles The configured profiles.
+     * @param compiled           The compiled profiles, in the same order as the configured ones.
+     * @param defaultProfile     The profile used when no configured profile matches.
+     * @return The profiles, indexed by the ordinal of the protocol version.
+     */
+    private static PingProfile[] resolveProfiles(@Nullable String host, List<PingProfileConfig> configuredProfiles,
+                                                 PingProfile[] compiled, PingProfile defaultProfile) {
+        ProtocolVersion[] versions = ProtocolVersion.values();
+        PingProfile[] resolved = new PingProfile[versions.length];
+        Arrays.fill(resolved, defaultProfile);
+        for (ProtocolVersion version : versions) {
+            for (int i = 0; i < compiled.length; i++) {
+                var profile = configuredProfiles.get(i);
+                Set<String> hosts = normalizeHosts(profile);
+                boolean hostMatches = hosts.isEmpty() || (host != null && hosts.contains(host));
+                if (hostMatches && matchesProtocol(profile, version)) {
+                    resolved[version.ordinal()] = compiled[i];
+                    break;
+                }
+            }
+        }
+        return resolved;
+    }
+
+    /**
+     * Checks whether a protocol version is in the protocol range of a profile.
+     * Unknown and legacy versions only match profiles without a protocol range.
+     *
+     * @param profile The profile configuration.
+     * @param version The protocol version.
+     * @return True if the profile applies to the protocol version.
+     */
+    private static boolean matchesProtocol(@NotNull PingProfileConfig profile, @NotNull ProtocolVersion version) {
+        int min = profile.getMinProtocol();
+        int max = profile.getMaxProtocol();
+        if (version.isUnknown() || version.isLegacy())
+            return min < 0 && max < 0;
+        int protocol = version.getProtocol();
+        return (min < 0 || protocol >= min) && (max < 0 || protocol <= max);
+    }
+
+    /**
+     * Retrieves the lowercase virtual hosts of a profile.
+     *
+     * @param profile The profile configuration.
+     * @return The set of lowercase hosts, empty if the profile applies to every host.
+     */
+    private static Set<String> normalizeHosts(@NotNull PingProfileConfig profile) {
+        Set<String> hosts = new LinkedHashSet<>();
+        if (profile.getHosts() != null) {
+            for (String host : profile.getHosts()) {
+                hosts.add(host.toLowerCase(Locale.ROOT));
+            }
+        }
+        return hosts;
+    }
+
+    /**
+     * Compiles a configured MOTD into its frames and binds its icon.
+     * The icon of the MOTD is only bound if the MOTD explicitly overrides the favicon of its profile.
+     * A MOTD without animation frames is compiled into a single frame from its two lines.
+     *
+     * @param motd The MOTD to compile.
+     * @return The CompiledMotd.
+     */
+    private static CompiledMotd compileMotd(@NotNull ServerMotdConfig motd) {
+        var icon = motd.getIcon() == null || !motd.isOverrideIcon()
+                ? FavIconManager.IconBinding.NONE
+                : Nexus.plugin.getFavIconManager().bind(motd.getIcon());
+        var configuredFrames = motd.getFrames();
+        if (configuredFrames == null || configuredFrames.isEmpty())
+            return new CompiledMotd(new Component[]{compileFrame(motd.getLine1(), motd.getLine2())}, 1, icon);
+
+        Component[] frames = new Component[configuredFrames.size()];
+        for (int i = 0; i < frames.length; i++) {
+            var frame = configuredFrames.get(i);
+            frames[i] = compileFrame(frame.getLine1(), frame.getLine2());
+        }
+        return new CompiledMotd(frames, Math.max(1, motd.getFrameInterval()), icon);
+    }
+
+    /**
+     * Builds the description of a MOTD from its two lines.
+     *
+     * @param line1 The first line of the MOTD.
+     * @param line2 The second line of the MOTD.
+     * @return A Component representing the MOTD.
+     */
+    private static Component compileFrame(@NotNull String line1, @NotNull String line2) {
+        Component motdComponent = Component.empty();
+        motdComponent = motdComponent.append(ChatUtil.translateColors(line1, true));
+        motdComponent = motdComponent.append(Component.newline());
+        motdComponent = motdComponent.append(ChatUtil.translateColors(line2, true));
+        return motdComponent.compact();
+    }
+
+    /**
+     * The virtual host and protocol version a response is cached for.
+     */
+    private static final class PingKey {
+        private final String host;
+        private final ProtocolVersion version;
+
+        private PingKey(String host, ProtocolVersion version) {
+            this.host = host;
+            this.version = version;
+        }
+
+        /**
+         * Creates the key of a connection.
+         *
+         * @param connection The connection sending the ping.
+         * @return The PingKey of the connection.
+         */
+        private static PingKey of(@NotNull InboundConnection connection) {
+            String host = connection.getVirtualHost()
+                    .map(InetSocketAddress::getHostString)
+                    .map(name -> name.toLowerCase(Locale.ROOT))
+                    .orElse("");
+            return new PingKey(host, connection.getProtocolVersion());
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof PingKey other && version == other.version && host.equals(other.host);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * host.hashCode() + version.ordinal();
+        }
+    }
+
+    /**
+     * The ping profiles, indexed by virtual host and protocol version.
+     */
+    private static final class ProfileTable {
+        // The table before the profiles are loaded, using the default spoofer without any MOTD or icon.
+        private static final ProfileTable EMPTY = new ProfileTable(Map.of(), new PingProfile[0]);
+
+        // The profiles of the hosts named by a profile, indexed by the ordinal of the protocol version.
+        private final Map<String, PingProfile[]> byHost;
+
+        // The profiles of every other host, indexed by the ordinal of the protocol version.
+        private final PingProfile[] otherHosts;
+
+        private ProfileTable(Map<String, PingProfile[]> byHost, PingProfile[] otherHosts) {
+            this.byHost = byHost;
+            this.otherHosts = otherHosts;
+        }
+
+        /**
+         * Resolves the profile of a ping.
+         *
+         * @param key The virtual host and protocol version of the ping.
+         * @return The PingProfile of the ping.
+         */
+        private PingProfile resolve(@NotNull PingKey key) {
+            PingProfile[] table = byHost.getOrDefault(key.host, otherHosts);
+            if (table.length == 0)
+                return PingProfile.EMPTY;
+            return table[key.version.ordinal()];
+        }
+    }
+
+    /**
+     * The compiled MOTDs, favicon and spoofer of a ping.
+     */
+    private static final class PingProfile {
+        // The profile used before the profiles are loaded.
+        private static final PingProfile EMPTY = new PingProfile(new CompiledMotd[0], FavIconManager.IconBinding.NONE, new ServerSpooferConfig(), null);
+
+        private final CompiledMotd[] motds;
+        private final FavIconManager.IconBinding icon;
+        private final ServerSpooferConfig spoofer;
+        private final SamplePlayerManager.SamplePool samplePool;
+        private final ServerPing.Version version;
+
+        private PingProfile(CompiledMotd[] motds, FavIconManager.IconBinding icon, ServerSpooferConfig spoofer,
+                            @Nullable SamplePlayerManager.SamplePool samplePool) {
+            this(motds, icon, spoofer, samplePool, null);
+        }
+
+        private PingProfile(CompiledMotd[] motds, FavIconManager.IconBinding icon, ServerSpooferConfig spoofer,
+                            @Nullable SamplePlayerManager.SamplePool samplePool, @Nullable ServerPing.Version version) {
+            this.motds = motds;
+            this.icon = icon;
+            this.spoofer = spoofer;
+            this.samplePool = samplePool;
+            this.version = version;
+        }
+
+        /**
+         * Creates a copy of the profile showing a text instead of the player count.
+         *
+         * @param versionText The text to show, with legacy color codes, or null or empty to show the player count.
+         * @return The new PingProfile.
+         */
+        private PingProfile withVersionText(@Nullable String versionText) {
+            if (versionText == null || versionText.isEmpty())
+                return new PingProfile(motds, icon, spoofer, samplePool, null);
+            // A protocol no client speaks makes the client show the version text instead of the player count.
+            // The version name is plain legacy text, so the colors are translated like any other message and serialized back.
+            String text = LegacyComponentSerializer.legacySection().serialize(ChatUtil.translateColors(versionText, true));
+            var version = new ServerPing.Version(-1, text);
+            return new PingProfile(motds, icon, spoofer, samplePool, version);
+        }
+    }
+
+    /**
+     * A MOTD compiled into its frames, and its resolved icon.
+     */
+    private static final class CompiledMotd {
+        private final Component[] frames;
+        private final long frameInterval;
+        private final FavIconManager.IconBinding icon;
+
+        private CompiledMotd(Component[] frames, long frameInterval, FavIconManager.IconBinding icon) {
+            this.frames = frames;
+            this.frameInterval = frameInterval;
+            this.icon = icon;
+        }
+
+        /**
+         * Selects the frame of the current time slice.
+         *
+         * @return The Component of the current frame.
+         */
+        private Component currentFrame() {
+            if (frames.length == 1)
+                return frames[0];
+            return frames[(int) ((System.currentTimeMillis() / frameInterval) % frames.length)];
+        }
+    }
+
+    /**
+     * A cached response and the time it should be refreshed at.
+     */
+    private static final class CachedPing {
+        private final ServerPing ping;
+        private final ProfileTable table;
+        private final long refreshAt;
+        private final AtomicBoolean refreshing = new AtomicBoolean();
+
+        private CachedPing(ServerPing ping, ProfileTable table, long refreshAt) {
+            this.ping = ping;
+            this.table = table;
+            this.refreshAt = refreshAt;
+        }
+    }
+}
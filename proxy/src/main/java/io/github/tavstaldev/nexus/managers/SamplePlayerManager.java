@@ -0,0 +1,274 @@
+package io.github.tavstaldev.nexus.managers;
+
+import com.velocitypowered.api.proxy.Player;
+import com.velocitypowered.api.proxy.server.RegisteredServer;
+import com.velocitypowered.api.proxy.server.ServerPing;
+import com.velocitypowered.api.scheduler.ScheduledTask;
+import io.github.tavstaldev.nexus.Nexus;
+import io.github.tavstaldev.nexus.config.main.pinger.ServerSpooferConfig;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * The SamplePlayerManager class maintains the players shown in the server list ping of the spoofer.
+ * <p>
+ * Players on the target servers of the spoofer are tracked as they connect, switch servers and disconnect,
+ * so the player count is a maintained counter and no server's player list has to be walked when a ping is built.
+ * Only a small sample of them is shown to the client, which is kept as a fixed-size array of prebuilt
+ * {@link ServerPing.SamplePlayer}s and rotated on a timer.
+ * <p>
+ * Every distinct set of target servers, of the default spoofer and of the ping profiles, has its own {@link SamplePool}.
+ */
+public class SamplePlayerManager {
+    // An empty sample, shown when no player is tracked.
+    private static final ServerPing.SamplePlayer[] EMPTY_SAMPLE = new ServerPing.SamplePlayer[0];
+
+    // The pools of the configured spoofers, keyed by their lowercase target server names.
+    private volatile Map<Set<String>, SamplePool> pools = Map.of();
+
+    // The task rotating the samples.
+    private ScheduledTask rotationTask;
+
+    /**
+     * Creates a pool for the target servers of every configured spoofer, tracks the players already
+     * connected to them and starts rotating the samples.
+     */
+    public synchronized void start() {
+        var serverPinger = Nexus.plugin.getConfig().getServerPinger();
+        Map<Set<String>, SamplePool> created = new HashMap<>();
+        addPool(created, serverPinger.getSpoofer());
+        for (var profile : serverPinger.getProfiles()) {
+            addPool(created, profile.getSpoofer());
+        }
+
+        for (SamplePool pool : created.values()) {
+            for (String targetServer : pool.targetServers) {
+                RegisteredServer server = Nexus.plugin.getProxy().getServer(targetServer).orElse(null);
+                if (server == null)
+                    continue;
+                for (Player player : server.getPlayersConnected()) {
+                    pool.addPlayer(player);
+                }
+            }
+            pool.rotate();
+        }
+        pools = Map.copyOf(created);
+
+        if (rotationTask != null)
+            rotationTask.cancel();
+        if (created.isEmpty())
+            return;
+        int interval = Math.max(1, serverPinger.getSpoofer().getSampleRotationInterval());
+        rotationTask = Nexus.plugin.getProxy().getScheduler()
+                .buildTask(Nexus.plugin, () -> pools.values().forEach(SamplePool::rotate))
+                .delay(interval, TimeUnit.SECONDS)
+                .repeat(interval, TimeUnit.SECONDS)
+                .schedule();
+    }
+
+    /**
+     * Stops rotating the samples.
+     */
+    public synchronized void shutdown() {
+        if (rotationTask != null) {
+            rotationTask.cancel();
+            rotationTask = null;
+        }
+    }
+
+    /**
+     * Retrieves the pool of a spoofer.
+     *
+     * @param spoofer The spoofer configuration.
+     * @return The SamplePool tracking the target servers of the spoofer, or null if the spoofer has no target servers.
+     */
+    public @Nullable SamplePool getPool(@Nullable ServerSpooferConfig spoofer) {
+        if (spoofer == null)
+            return null;
+        return pools.get(normalize(spoofer.getTargetServers()));
+    }
+
+    /**
+     * Updates the tracking of a player who connected to a server.
+     * The player is tracked by the pools of the server, and untracked by every other pool.
+     *
+     * @param player The player who connected.
+     * @param server The server the player connected to.
+     */
+    public void updatePlayer(@NotNull Player player, @NotNull RegisteredServer server) {
+        String serverName = server.getServerInfo().getName().toLowerCase(Locale.ROOT);
+        for (SamplePool pool : pools.values()) {
+            if (!pool.targetServers.contains(serverName)) {
+                pool.removePlayer(player);
+                continue;
+            }
+            pool.addPlayer(player);
+            // The player may have disconnected while the connection was being handled.
+            if (!player.isActive())
+                pool.removePlayer(player);
+        }
+    }
+
+    /**
+     * Stops tracking a player.
+     *
+     * @param player The player to remove.
+     */
+    public void removePlayer(@NotNull Player player) {
+        for (SamplePool pool : pools.values()) {
+            pool.removePlayer(player);
+        }
+    }
+
+    /**
+     * Adds a pool for the target servers of a spoofer, unless the spoofer has no target servers
+     * or a pool for them exists already.
+     *
+     * @param created The pools created so far.
+     * @param spoofer The spoofer configuration.
+     */
+    private static void addPool(Map<Set<String>, SamplePool> created, @Nullable ServerSpooferConfig spoofer) {
+        if (spoofer == null)
+            return;
+        Set<String> targetServers = normalize(spoofer.getTargetServers());
+        if (!targetServers.isEmpty())
+            created.computeIfAbsent(targetServers, SamplePool::new);
+    }
+
+    /**
+     * Converts target server names to a set of lowercase names.
+     *
+     * @param targetServers The configured target server names.
+     * @return The set of lowercase names.
+     */
+    private static Set<String> normalize(String[] targetServers) {
+        return Arrays.stream(targetServers)
+                .map(name -> name.toLowerCase(Locale.ROOT))
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    /**
+     * Retrieves the configured size of the samples.
+     *
+     * @return The maximum number of players shown in the server list ping.
+     */
+    private static int getSampleSize() {
+        return Math.max(0, Nexus.plugin.getConfig().getServerPinger().getSpoofer().getSampleSize());
+    }
+
+    /**
+     * The players connected to a set of target servers and the sample of them shown in the server list ping.
+     */
+    public static final class SamplePool {
+        // The lowercase names of the target servers.
+        private final Set<String> targetServers;
+
+        // The tracked players, keyed by their unique IDs.
+        private final Map<UUID, ServerPing.SamplePlayer> players = new ConcurrentHashMap<>();
+
+        // The number of tracked players.
+        private final AtomicInteger playerCount = new AtomicInteger();
+
+        // The players currently shown in the server list ping.
+        private volatile ServerPing.SamplePlayer[] sample = EMPTY_SAMPLE;
+
+        private SamplePool(Set<String> targetServers) {
+            this.targetServers = targetServers;
+        }
+
+        /**
+         * Retrieves the number of players connected to the target servers.
+         *
+         * @return The number of tracked players.
+         */
+        public int getPlayerCount() {
+            return playerCount.get();
+        }
+
+        /**
+         * Retrieves the players currently shown in the server list ping.
+         * The returned array is shared and must not be modified.
+         *
+         * @return The sample of tracked players.
+         */
+        public ServerPing.SamplePlayer[] getSample() {
+            return sample;
+        }
+
+        /**
+         * Tracks a player, filling the sample right away if it is not full yet.
+         *
+         * @param player The player to add.
+         */
+        private void addPlayer(@NotNull Player player) {
+            // Keep the tracked instance of a player moving between two servers of the pool, since the sample
+            // may be showing it and removePlayer looks it up by identity.
+            UUID uuid = player.getUniqueId();
+            if (players.containsKey(uuid))
+                return;
+            if (players.putIfAbsent(uuid, new ServerPing.SamplePlayer(player.getGameProfile().getName(), uuid)) != null)
+                return;
+            playerCount.incrementAndGet();
+            if (sample.length < getSampleSize())
+                rotate();
+        }
+
+        /**
+         * Stops tracking a player, replacing the sample if the player was shown in it.
+         *
+         * @param player The player to remove.
+         */
+        private void removePlayer(@NotNull Player player) {
+            var removed = players.remove(player.getUniqueId());
+            if (removed == null)
+                return;
+            playerCount.decrementAndGet();
+            for (ServerPing.SamplePlayer shown : sample) {
+                if (shown == removed) {
+                    rotate();
+                    return;
+                }
+            }
+        }
+
+        /**
+         * Picks a new random sample of the tracked players and publishes it.
+         */
+        private synchronized void rotate() {
+            int size = Math.min(getSampleSize(), players.size());
+            if (size <= 0) {
+                sample = EMPTY_SAMPLE;
+                return;
+            }
+
+            // Reservoir sampling, so every tracked player has the same chance to be shown.
+            ServerPing.SamplePlayer[] picked = new ServerPing.SamplePlayer[size];
+            var random = ThreadLocalRandom.current();
+            int seen = 0;
+            for (ServerPing.SamplePlayer samplePlayer : players.values()) {
+                if (seen < size) {
+                    picked[seen] = samplePlayer;
+                } else {
+                    int index = random.nextInt(seen + 1);
+                    if (index < size)
+                        picked[index] = samplePlayer;
+                }
+                seen++;
+            }
+            // Players may have left while iterating, shrink the sample to what was seen.
+            sample = seen < size ? Arrays.copyOf(picked, seen) : picked;
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package io.github.tavstaldev.nexus.models;
+
+/**
+ * The BroadcastPriority enum defines how important a broadcast message is.
+ * Only low priority messages are held back when the delivery lane of a recipient is backed up.
+ */
+public enum BroadcastPriority {
+    // Messages that are always delivered, such as network alerts, custom chats, helpop messages and reports.
+    NORMAL,
+    // Informational notices that may be dropped or coalesced, such as staff join and switch notices.
+    LOW
+}
@@ -0,0 +1,47 @@
+package io.github.tavstaldev.nexus.models;
+
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * The FillFirstBalancer class sends players to the fullest lobby that is still below the fill threshold,
+ * so players end up together instead of being spread thin over every lobby. When every lobby reached
+ * the threshold, the lobby with the lowest load is chosen.
+ */
+public class FillFirstBalancer implements ILobbyBalancer {
+    // The capacity assumed for lobbies that did not report one.
+    private final int defaultCapacity;
+
+    // The load up to which a lobby is filled before the next one is used.
+    private final double fillThreshold;
+
+    /**
+     * Constructs a FillFirstBalancer.
+     *
+     * @param defaultCapacity The capacity assumed for lobbies that did not report one.
+     * @param fillThreshold   The load up to which a lobby is filled, between 0 and 1.
+     */
+    public FillFirstBalancer(int defaultCapacity, double fillThreshold) {
+        this.defaultCapacity = defaultCapacity;
+        this.fillThreshold = fillThreshold;
+    }
+
+    @Override
+    public @Nullable LobbyServerState select(LobbyServerState[] candidates) {
+        LobbyServerState fullest = null;
+        double fullestLoad = -1;
+        LobbyServerState emptiest = null;
+        double emptiestLoad = Double.MAX_VALUE;
+        for (LobbyServerState candidate : candidates) {
+            double load = candidate.getLoad(defaultCapacity);
+            if (load < fillThreshold && load > fullestLoad) {
+                fullestLoad = load;
+                fullest = candidate;
+            }
+            if (load < emptiestLoad) {
+                emptiestLoad = load;
+                emptiest = candidate;
+            }
+        }
+        return fullest != null ? fullest : emptiest;
+    }
+}
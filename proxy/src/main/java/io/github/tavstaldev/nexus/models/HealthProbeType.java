@@ -0,0 +1,11 @@
+package io.github.tavstaldev.nexus.models;
+
+/**
+ * The HealthProbeType enum defines how the availability of a lobby server is checked.
+ */
+public enum HealthProbeType {
+    // Sends a full server list ping, which also verifies that the server answers the Minecraft protocol.
+    PING,
+    // Only opens a TCP connection to the server, which is cheaper for both the proxy and the server.
+    TCP
+}
@@ -0,0 +1,18 @@
+package io.github.tavstaldev.nexus.models;
+
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * The ILobbyBalancer interface chooses the lobby server a player is sent to.
+ * Implementations only read the maintained counters of the servers, so choosing a lobby never walks
+ * the player lists of the servers.
+ */
+public interface ILobbyBalancer {
+    /**
+     * Chooses a lobby server.
+     *
+     * @param candidates The available lobby servers. Never modified.
+     * @return The chosen lobby server, or null if there are no candidates.
+     */
+    @Nullable LobbyServerState select(LobbyServerState[] candidates);
+}
@@ -0,0 +1,36 @@
+package io.github.tavstaldev.nexus.models;
+
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * The LeastConnectionsBalancer class sends players to the lobby with the lowest load, where the load
+ * is the number of players divided by the capacity of the lobby. A lobby twice as large as another
+ * receives twice as many players.
+ */
+public class LeastConnectionsBalancer implements ILobbyBalancer {
+    // The capacity assumed for lobbies that did not report one.
+    private final int defaultCapacity;
+
+    /**
+     * Constructs a LeastConnectionsBalancer.
+     *
+     * @param defaultCapacity The capacity assumed for lobbies that did not report one.
+     */
+    public LeastConnectionsBalancer(int defaultCapacity) {
+        this.defaultCapacity = defaultCapacity;
+    }
+
+    @Override
+    public @Nullable LobbyServerState select(LobbyServerState[] candidates) {
+        LobbyServerState best = null;
+        double bestLoad = Double.MAX_VALUE;
+        for (LobbyServerState candidate : candidates) {
+            double load = candidate.getLoad(defaultCapacity);
+            if (load < bestLoad) {
+                bestLoad = load;
+                best = candidate;
+            }
+        }
+        return best;
+    }
+}
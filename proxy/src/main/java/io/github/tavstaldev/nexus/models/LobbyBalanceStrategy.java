@@ -0,0 +1,13 @@
+package io.github.tavstaldev.nexus.models;
+
+/**
+ * The LobbyBalanceStrategy enum defines how a lobby server is chosen for a player.
+ */
+public enum LobbyBalanceStrategy {
+    // Picks the lobby with the fewest players relative to its capacity.
+    LEAST_CONNECTIONS,
+    // Picks two random lobbies and sends the player to the one with less load relative to its capacity.
+    POWER_OF_TWO,
+    // Fills the fullest lobby that is still below the fill threshold, so players end up together.
+    FILL_FIRST
+}
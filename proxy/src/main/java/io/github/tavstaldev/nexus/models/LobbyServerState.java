@@ -0,0 +1,351 @@
+package io.github.tavstaldev.nexus.models;
+
+import com.velocitypowered.api.proxy.server.RegisteredServer;
+import io.github.tavstaldev.nexus.util.LatencyHistogram;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The LobbyServerState class holds the health of a single tracked lobby server.
+ * <p>
+ * A server only changes its availability after several checks in a row agree, so a single lost ping
+ * does not take a lobby out of rotation. The state is updated by the health checker and read by
+ * everything that picks a lobby server.
+ * <p>
+ * The player count is a counter maintained as players connect to and leave the server, so reading it
+ * does not copy the player list of the server.
+ * <p>
+ * The round-trip time of every successful check is recorded in a {@link LatencyHistogram}. The statistics
+ * cover the current and the previous {@value #STATISTICS_WINDOW_MILLIS} ms window, so they follow
+ * the recent behaviour of the server instead of averaging over its whole lifetime.
+ */
+public class LobbyServerState {
+    // The length of a statistics window, in milliseconds.
+    private static final long STATISTICS_WINDOW_MILLIS = 300_000L;
+
+    // The server this state belongs to.
+    private final RegisteredServer server;
+
+    // Whether the server is currently considered available.
+    private volatile boolean available = true;
+
+    // The number of checks in a row that failed.
+    private int consecutiveFailures;
+
+    // The number of checks in a row that succeeded.
+    private int consecutiveSuccesses;
+
+    // The time the availability of the server last changed, in milliseconds.
+    private volatile long lastStateChange;
+
+    // The number of players connected to the server.
+    private final AtomicInteger playerCount = new AtomicInteger();
+
+    // The maximum player count reported by the server, or 0 if it did not report one.
+    private volatile int capacity;
+
+    // The round-trip times of the checks in the current window.
+    private LatencyHistogram currentLatency = new LatencyHistogram();
+
+    // The round-trip times of the checks in the previous window.
+    private LatencyHistogram previousLatency = new LatencyHistogram();
+
+    // The number of failed checks in the current and the previous window.
+    private long currentFailures, previousFailures;
+
+    // The time the current statistics window started, in milliseconds.
+    private long windowStart;
+
+    // The generation of the scheduled check, checks of older generations are dropped.
+    private int checkGeneration;
+
+    // The number of players that may currently be redirected to the server.
+    private double redirectTokens = -1D;
+
+    // The time the redirect tokens were last refilled, in nanoseconds.
+    private long redirectRefill;
+
+    /**
+     * Constructs a LobbyServerState for the specified server. New servers are assumed to be available
+     * until they are checked.
+     *
+     * @param server The server to track.
+     */
+    public LobbyServerState(@NotNull RegisteredServer server) {
+        this.server = server;
+    }
+
+    /**
+     * Records a successful check of the server.
+     *
+     * @param now               The current time, in milliseconds.
+     * @param latencyMicros     The round-trip time of the check, in microseconds.
+     * @param recoveryThreshold The number of successful checks in a row needed to become available.
+     * @return True if the server became available, false otherwise.
+     */
+    public synchronized boolean recordSuccess(long now, long latencyMicros, int recoveryThreshold) {
+        rotateWindow(now);
+        currentLatency.record(latencyMicros);
+        consecutiveFailures = 0;
+        consecutiveSuccesses++;
+        if (available || consecutiveSuccesses < recoveryThreshold)
+            return false;
+
+        available = true;
+        lastStateChange = now;
+        return true;
+    }
+
+    /**
+     * Records a failed check of the server.
+     *
+     * @param now              The current time, in milliseconds.
+     * @param failureThreshold The number of failed checks in a row needed to become unavailable.
+     * @return True if the server became unavailable, false otherwise.
+     */
+    public synchronized boolean recordFailure(long now, int failureThreshold) {
+        rotateWindow(now);
+        currentFailures++;
+        consecutiveSuccesses = 0;
+        consecutiveFailures++;
+        if (!available || consecutiveFailures < failureThreshold)
+            return false;
+
+        available = false;
+        lastStateChange = now;
+        return true;
+    }
+
+    /**
+     * Marks the server unavailable right away, after a player failed to connect to it.
+     * The server has to pass the usual number of successful checks to become available again.
+     *
+     * @param now              The current time, in milliseconds.
+     * @param failureThreshold The number of failed checks needed to become unavailable.
+     * @return True if the server became unavailable, false if it already was.
+     */
+    public synchronized boolean markSuspect(long now, int failureThreshold) {
+        consecutiveSuccesses = 0;
+        consecutiveFailures = Math.max(consecutiveFailures, failureThreshold);
+        if (!available)
+            return false;
+
+        available = false;
+        lastStateChange = now;
+        return true;
+    }
+
+    /**
+     * Starts a new generation of checks, so the check scheduled before is dropped.
+     *
+     * @return The generation of the next check.
+     */
+    public synchronized int nextCheckGeneration() {
+        return ++checkGeneration;
+    }
+
+    /**
+     * Checks whether a check belongs to the current generation.
+     *
+     * @param generation The generation of the check.
+     * @return True if the check is current, false if it was replaced.
+     */
+    public synchronized boolean isCurrentCheck(int generation) {
+        return checkGeneration == generation;
+    }
+
+    /**
+     * Starts a new statistics window if the current one is over, dropping the previous one.
+     *
+     * @param now The current time, in milliseconds.
+     */
+    private void rotateWindow(long now) {
+        if (now - windowStart < STATISTICS_WINDOW_MILLIS)
+            return;
+
+        LatencyHistogram recycled = previousLatency;
+        recycled.reset();
+        // Drop both windows if the server was not checked during the whole previous window.
+        if (now - windowStart < 2 * STATISTICS_WINDOW_MILLIS) {
+            previousLatency = currentLatency;
+            previousFailures = currentFailures;
+        } else {
+            currentLatency.reset();
+            previousLatency = currentLatency;
+            previousFailures = 0L;
+        }
+        currentLatency = recycled;
+        currentFailures = 0L;
+        windowStart = now;
+    }
+
+    /**
+     * Calculates a percentile of the round-trip times of the recent successful checks.
+     *
+     * @param quantile The percentile to calculate, between 0 and 1.
+     * @return The round-trip time in microseconds, or -1 if no check succeeded recently.
+     */
+    public synchronized long getLatencyPercentile(double quantile) {
+        return LatencyHistogram.percentile(quantile, currentLatency, previousLatency);
+    }
+
+    /**
+     * Calculates the share of the recent checks that succeeded.
+     *
+     * @return The share of successful checks between 0 and 1, or -1 if the server was not checked recently.
+     */
+    public synchronized double getAvailability() {
+        long successes = currentLatency.getCount() + previousLatency.getCount();
+        long total = successes + currentFailures + previousFailures;
+        return total == 0L ? -1D : (double) successes / total;
+    }
+
+    /**
+     * Calculates how long to wait before the next check of the server.
+     * <p>
+     * Servers whose checks disagree with their state, or whose state changed recently, are checked at the
+     * unstable interval. Unavailable servers back off exponentially, and stable servers are checked at the
+     * healthy interval.
+     *
+     * @param now              The current time, in milliseconds.
+     * @param healthyInterval  The interval used for stable, available servers.
+     * @param unstableInterval The interval used for unstable servers.
+     * @param unstableWindow   How long a server is unstable after its state changed.
+     * @param failureThreshold The number of failed checks needed to become unavailable.
+     * @param maxBackoff       The longest interval used for unavailable servers.
+     * @return The delay before the next check, in milliseconds.
+     */
+    public synchronized long nextCheckDelay(long now, long healthyInterval, long unstableInterval, long unstableWindow, int failureThreshold, long maxBackoff) {
+        if (available) {
+            if (consecutiveFailures > 0 || now - lastStateChange < unstableWindow)
+                return unstableInterval;
+            return healthyInterval;
+        }
+
+        if (consecutiveSuccesses > 0)
+            return unstableInterval;
+        int doublings = Math.min(Math.max(consecutiveFailures - failureThreshold, 0), 30);
+        return Math.min(maxBackoff, unstableInterval << doublings);
+    }
+
+    /**
+     * Counts a player that connected to the server.
+     */
+    public void addPlayer() {
+        playerCount.incrementAndGet();
+    }
+
+    /**
+     * Stops counting a player that left the server.
+     */
+    public void removePlayer() {
+        playerCount.updateAndGet(count -> Math.max(0, count - 1));
+    }
+
+    /**
+     * Overwrites the player count, correcting any drift of the counter.
+     *
+     * @param count The actual number of players connected to the server.
+     */
+    public void setPlayerCount(int count) {
+        playerCount.set(count);
+    }
+
+    /**
+     * Retrieves the number of players connected to the server.
+     *
+     * @return The player count.
+     */
+    public int getPlayerCount() {
+        return playerCount.get();
+    }
+
+    /**
+     * Sets the maximum player count reported by the server.
+     *
+     * @param capacity The maximum player count, or 0 if unknown.
+     */
+    public void setCapacity(int capacity) {
+        this.capacity = Math.max(0, capacity);
+    }
+
+    /**
+     * Retrieves the maximum player count reported by the server.
+     *
+     * @return The maximum player count, or 0 if the server did not report one.
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Calculates the load of the server as its player count divided by its capacity.
+     *
+     * @param defaultCapacity The capacity assumed if the server did not report one.
+     * @return The load of the server, 1 meaning full.
+     */
+    public double getLoad(int defaultCapacity) {
+        int max = capacity > 0 ? capacity : Math.max(1, defaultCapacity);
+        return (double) playerCount.get() / max;
+    }
+
+    /**
+     * Takes a token for redirecting a player to the server, refilling the tokens at the given rate.
+     *
+     * @param nowNanos           The current time, in nanoseconds.
+     * @param redirectsPerSecond The number of tokens refilled per second.
+     * @param burst              The maximum number of tokens.
+     * @return True if a token was taken, false if the server received too many players recently.
+     */
+    public synchronized boolean tryAcquireRedirect(long nowNanos, double redirectsPerSecond, int burst) {
+        if (redirectTokens < 0D) {
+            redirectTokens = burst;
+        } else {
+            double refilled = (nowNanos - redirectRefill) / 1_000_000_000D * redirectsPerSecond;
+            redirectTokens = Math.min(burst, redirectTokens + refilled);
+        }
+        redirectRefill = nowNanos;
+        if (redirectTokens < 1D)
+            return false;
+
+        redirectTokens -= 1D;
+        return true;
+    }
+
+    /**
+     * Retrieves the server this state belongs to.
+     *
+     * @return The tracked server.
+     */
+    public RegisteredServer getServer() {
+        return server;
+    }
+
+    /**
+     * Checks whether the server is currently considered available.
+     *
+     * @return True if the server is available, false otherwise.
+     */
+    public boolean isAvailable() {
+        return available;
+    }
+
+    /**
+     * Retrieves the number of checks in a row that failed.
+     *
+     * @return The number of consecutive failed checks.
+     */
+    public synchronized int getConsecutiveFailures() {
+        return consecutiveFailures;
+    }
+
+    /**
+     * Retrieves the time the availability of the server last changed.
+     *
+     * @return The time of the last state change in milliseconds, or 0 if it never changed.
+     */
+    public long getLastStateChange() {
+        return lastStateChange;
+    }
+}
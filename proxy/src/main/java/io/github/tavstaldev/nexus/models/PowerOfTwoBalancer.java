@@ -0,0 +1,43 @@
+package io.github.tavstaldev.nexus.models;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * The PowerOfTwoBalancer class picks two random lobbies and sends the player to the one with the lower load.
+ * <p>
+ * Unlike always picking the least loaded lobby, concurrent selections made before the counters catch up
+ * are spread over several lobbies instead of all landing on the same one, while the load still stays
+ * close to even.
+ */
+public class PowerOfTwoBalancer implements ILobbyBalancer {
+    // The capacity assumed for lobbies that did not report one.
+    private final int defaultCapacity;
+
+    /**
+     * Constructs a PowerOfTwoBalancer.
+     *
+     * @param defaultCapacity The capacity assumed for lobbies that did not report one.
+     */
+    public PowerOfTwoBalancer(int defaultCapacity) {
+        this.defaultCapacity = defaultCapacity;
+    }
+
+    @Override
+    public @Nullable LobbyServerState select(LobbyServerState[] candidates) {
+        int count = candidates.length;
+        if (count == 0)
+            return null;
+        if (count == 1)
+            return candidates[0];
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int first = random.nextInt(count);
+        // Pick a second index that differs from the first.
+        int second = (first + 1 + random.nextInt(count - 1)) % count;
+        LobbyServerState a = candidates[first];
+        LobbyServerState b = candidates[second];
+        return a.getLoad(defaultCapacity) <= b.getLoad(defaultCapacity) ? a : b;
+    }
+}
@@ -0,0 +1,191 @@
+package io.github.tavstaldev.nexus.placeholder;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.velocitypowered.api.proxy.Player;
+import com.velocitypowered.api.proxy.server.RegisteredServer;
+import io.github.tavstaldev.nexus.config.reporting.Report;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * The Placeholder class binds a placeholder key to a typed resolver over a {@link PlaceholderContext}.
+ * A placeholder may declare a cache duration, in which case its values are memoized per subject
+ * (player, server or the whole network) for that long.
+ */
+public final class Placeholder {
+    /**
+     * The subject the memoized values of a placeholder are kept for.
+     */
+    public enum Scope {
+        // The value depends on the player.
+        PLAYER,
+        // The value depends on the server.
+        SERVER,
+        // The value is the same for the whole network.
+        GLOBAL
+    }
+
+    // The key used for values of the GLOBAL scope.
+    private static final Object GLOBAL_KEY = new Object();
+
+    // The placeholder key, without the surrounding '%' characters.
+    private final String key;
+
+    // The subject the memoized values are kept for.
+    private final Scope scope;
+
+    // The function resolving the value of the placeholder.
+    private final Function<PlaceholderContext, Object> resolver;
+
+    // The memoized values, or null if the placeholder is not cached.
+    private final @Nullable Cache<@NotNull Object, @NotNull Object> cache;
+
+    /**
+     * Constructs a Placeholder instance.
+     *
+     * @param key      The placeholder key, without the surrounding '%' characters.
+     * @param scope    The subject the memoized values are kept for.
+     * @param ttl      How long resolved values are memoized, or zero to resolve every time.
+     * @param resolver The function resolving the value of the placeholder, returning null if it has no value.
+     */
+    public Placeholder(@NotNull String key, @NotNull Scope scope, @NotNull Duration ttl, @NotNull Function<PlaceholderContext, Object> resolver) {
+        this.key = key;
+        this.scope = scope;
+        this.resolver = resolver;
+        this.cache = ttl.isZero() || ttl.isNegative() ? null : CacheBuilder.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(4096)
+                .build();
+    }
+
+    /**
+     * Creates a placeholder resolved from the player of the context, resolved every time.
+     *
+     * @param key      The placeholder key.
+     * @param resolver The function resolving the value from the player.
+     * @return The new Placeholder.
+     */
+    public static Placeholder player(@NotNull String key, @NotNull Function<Player, Object> resolver) {
+        return player(key, Duration.ZERO, resolver);
+    }
+
+    /**
+     * Creates a placeholder resolved from the player of the context, memoized per player.
+     *
+     * @param key      The placeholder key.
+     * @param ttl      How long resolved values are memoized.
+     * @param resolver The function resolving the value from the player.
+     * @return The new Placeholder.
+     */
+    public static Placeholder player(@NotNull String key, @NotNull Duration ttl, @NotNull Function<Player, Object> resolver) {
+        return new Placeholder(key, Scope.PLAYER, ttl, context -> {
+            Player player = context.getPlayer();
+            return player == null ? null : resolver.apply(player);
+        });
+    }
+
+    /**
+     * Creates a placeholder resolved from the server of the context, memoized per server.
+     *
+     * @param key      The placeholder key.
+     * @param ttl      How long resolved values are memoized, or zero to resolve every time.
+     * @param resolver The function resolving the value from the server.
+     * @return The new Placeholder.
+     */
+    public static Placeholder server(@NotNull String key, @NotNull Duration ttl, @NotNull Function<RegisteredServer, Object> resolver) {
+        return new Placeholder(key, Scope.SERVER, ttl, context -> {
+            RegisteredServer server = context.getServer();
+            return server == null ? null : resolver.apply(server);
+        });
+    }
+
+    /**
+     * Creates a placeholder resolved from the report of the context, resolved every time.
+     *
+     * @param key      The placeholder key.
+     * @param resolver The function resolving the value from the report.
+     * @return The new Placeholder.
+     */
+    public static Placeholder report(@NotNull String key, @NotNull Function<Report, Object> resolver) {
+        return new Placeholder(key, Scope.GLOBAL, Duration.ZERO, context -> {
+            Report report = context.getReport();
+            return report == null ? null : resolver.apply(report);
+        });
+    }
+
+    /**
+     * Creates a placeholder whose value is the same for the whole network, memoized for the given duration.
+     *
+     * @param key      The placeholder key.
+     * @param ttl      How long the resolved value is memoized.
+     * @param resolver The function resolving the value.
+     * @return The new Placeholder.
+     */
+    public static Placeholder global(@NotNull String key, @NotNull Duration ttl, @NotNull Function<PlaceholderContext, Object> resolver) {
+        return new Placeholder(key, Scope.GLOBAL, ttl, resolver);
+    }
+
+    /**
+     * Resolves the value of the placeholder for a context, using the memoized value when there is one.
+     *
+     * @param context The context of the message.
+     * @return The value, or null if the placeholder has no value in this context.
+     */
+    public @Nullable Object resolve(@NotNull PlaceholderContext context) {
+        if (cache == null)
+            return resolver.apply(context);
+
+        Object cacheKey = cacheKey(context);
+        if (cacheKey == null)
+            return resolver.apply(context);
+
+        Object value = cache.getIfPresent(cacheKey);
+        if (value == null) {
+            value = resolver.apply(context);
+            if (value != null)
+                cache.put(cacheKey, value);
+        }
+        return value;
+    }
+
+    /**
+     * Retrieves the key the value of a context is memoized under.
+     *
+     * @param context The context of the message.
+     * @return The cache key, or null if the context lacks the subject of the scope.
+     */
+    private @Nullable Object cacheKey(@NotNull PlaceholderContext context) {
+        return switch (scope) {
+            case PLAYER -> {
+                Player player = context.getPlayer();
+                yield player == null ? null : player.getUniqueId();
+            }
+            case SERVER -> {
+                RegisteredServer server = context.getServer();
+                yield server == null ? null : server.getServerInfo().getName();
+            }
+            case GLOBAL -> GLOBAL_KEY;
+        };
+    }
+
+    /**
+     * Discards the memoized values of the placeholder.
+     */
+    public void invalidate() {
+        if (cache != null)
+            cache.invalidateAll();
+    }
+
+    /**
+     * Retrieves the placeholder key.
+     *
+     * @return The key, without the surrounding '%' characters.
+     */
+    public String getKey() {
+        return key;
+    }
+}
@@ -0,0 +1,138 @@
+package io.github.tavstaldev.nexus.placeholder;
+
+import com.velocitypowered.api.proxy.Player;
+import com.velocitypowered.api.proxy.ServerConnection;
+import com.velocitypowered.api.proxy.server.RegisteredServer;
+import io.github.tavstaldev.nexus.config.reporting.Report;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The PlaceholderContext class holds the subjects a message is rendered for, such as the player,
+ * the server and the report. Placeholders are resolved from these subjects, so call sites do not
+ * have to turn every value into a string up front.
+ * <p>
+ * Values that only exist for a single message, like the text of a chat message, are attached with
+ * {@link #with(String, Object)}. A context is meant to be built for one message and is not thread-safe.
+ */
+public final class PlaceholderContext {
+    // The player the message is about, or null.
+    private final @Nullable Player player;
+
+    // The server the message is about, or null to use the current server of the player.
+    private @Nullable RegisteredServer server;
+
+    // The report the message is about, or null.
+    private @Nullable Report report;
+
+    // The values that only exist for this message, created on first use.
+    private @Nullable Map<String, Object> values;
+
+    /**
+     * Constructs a PlaceholderContext instance.
+     *
+     * @param player The player the message is about, or null.
+     */
+    private PlaceholderContext(@Nullable Player player) {
+        this.player = player;
+    }
+
+    /**
+     * Creates a context without any subject.
+     *
+     * @return A new PlaceholderContext.
+     */
+    public static PlaceholderContext empty() {
+        return new PlaceholderContext(null);
+    }
+
+    /**
+     * Creates a context for a player.
+     *
+     * @param player The player the message is about.
+     * @return A new PlaceholderContext.
+     */
+    public static PlaceholderContext of(@NotNull Player player) {
+        return new PlaceholderContext(player);
+    }
+
+    /**
+     * Sets the server the message is about.
+     *
+     * @param server The server the message is about.
+     * @return This context.
+     */
+    public PlaceholderContext withServer(@Nullable RegisteredServer server) {
+        this.server = server;
+        return this;
+    }
+
+    /**
+     * Sets the report the message is about.
+     *
+     * @param report The report the message is about.
+     * @return This context.
+     */
+    public PlaceholderContext withReport(@Nullable Report report) {
+        this.report = report;
+        return this;
+    }
+
+    /**
+     * Attaches a value that only exists for this message. Attached values take precedence
+     * over the registered placeholders.
+     *
+     * @param key   The placeholder key, without the surrounding '%' characters.
+     * @param value The value of the placeholder.
+     * @return This context.
+     */
+    public PlaceholderContext with(@NotNull String key, @NotNull Object value) {
+        if (values == null)
+            values = new HashMap<>(4);
+        values.put(key, value);
+        return this;
+    }
+
+    /**
+     * Retrieves the player the message is about.
+     *
+     * @return The player, or null.
+     */
+    public @Nullable Player getPlayer() {
+        return player;
+    }
+
+    /**
+     * Retrieves the server the message is about. If no server was set, the current server
+     * of the player is used.
+     *
+     * @return The server, or null.
+     */
+    public @Nullable RegisteredServer getServer() {
+        if (server != null || player == null)
+            return server;
+        return player.getCurrentServer().map(ServerConnection::getServer).orElse(null);
+    }
+
+    /**
+     * Retrieves the report the message is about.
+     *
+     * @return The report, or null.
+     */
+    public @Nullable Report getReport() {
+        return report;
+    }
+
+    /**
+     * Retrieves a value attached to this message.
+     *
+     * @param key The placeholder key.
+     * @return The attached value, or null if there is none.
+     */
+    public @Nullable Object getValue(@NotNull String key) {
+        return values == null ? null : values.get(key);
+    }
+}
@@ -0,0 +1,104 @@
+package io.github.tavstaldev.nexus.placeholder;
+
+import com.velocitypowered.api.proxy.Player;
+import io.github.tavstaldev.nexus.Nexus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The PlaceholderRegistry class holds the placeholders available to every message format.
+ * Other plugins can register their own placeholders through {@link Nexus#getPlaceholderRegistry()}.
+ * <p>
+ * Message templates bind their slots to the registered placeholders once and keep the binding
+ * until the registry changes, which is tracked by a generation counter.
+ */
+public class PlaceholderRegistry {
+    // The registered placeholders, keyed by their key.
+    private final Map<String, Placeholder> placeholders = new ConcurrentHashMap<>();
+
+    // Incremented whenever a placeholder is registered or unregistered.
+    private final AtomicLong generation = new AtomicLong();
+
+    /**
+     * Registers the placeholders provided by Nexus.
+     */
+    public void registerDefaults() {
+        register(new Placeholder("player", Placeholder.Scope.PLAYER, Duration.ZERO, context -> {
+            Player player = context.getPlayer();
+            if (player != null)
+                return player.getUsername();
+            return context.getReport() == null ? null : context.getReport().getReporterName();
+        }));
+        register(Placeholder.player("player_uuid", Player::getUniqueId));
+        register(Placeholder.player("player_ping", Player::getPing));
+        register(Placeholder.player("player_prefix", Duration.ofSeconds(5), player -> Nexus.plugin.getPrefixHelper().getPrefix(player)));
+        register(Placeholder.player("player_suffix", Duration.ofSeconds(5), player -> Nexus.plugin.getPrefixHelper().getSuffix(player)));
+        register(new Placeholder("server", Placeholder.Scope.SERVER, Duration.ZERO, context -> {
+            if (context.getReport() != null)
+                return context.getReport().getServer();
+            return context.getServer() == null ? null : context.getServer().getServerInfo().getName();
+        }));
+        register(Placeholder.server("server_online", Duration.ofSeconds(1), server -> server.getPlayersConnected().size()));
+        register(Placeholder.global("network_online", Duration.ofSeconds(1), context -> Nexus.plugin.getProxy().getPlayerCount()));
+        register(Placeholder.report("reported", report -> report.getTargetName()));
+        register(Placeholder.report("reason", report -> report.getReason()));
+    }
+
+    /**
+     * Registers a placeholder, replacing the placeholder registered with the same key.
+     *
+     * @param placeholder The placeholder to register.
+     */
+    public void register(@NotNull Placeholder placeholder) {
+        placeholders.put(placeholder.getKey(), placeholder);
+        generation.incrementAndGet();
+    }
+
+    /**
+     * Unregisters the placeholder with the specified key.
+     *
+     * @param key The key of the placeholder.
+     */
+    public void unregister(@NotNull String key) {
+        if (placeholders.remove(key) != null)
+            generation.incrementAndGet();
+    }
+
+    /**
+     * Retrieves the placeholder registered with the specified key.
+     *
+     * @param key The key of the placeholder.
+     * @return The Placeholder, or null if no placeholder is registered with the key.
+     */
+    public @Nullable Placeholder get(@NotNull String key) {
+        return placeholders.get(key);
+    }
+
+    /**
+     * Binds placeholder keys to the registered placeholders.
+     *
+     * @param keys The placeholder keys.
+     * @return The placeholders, indexed like the keys. Keys without a placeholder are bound to null.
+     */
+    public Placeholder[] bind(@NotNull String[] keys) {
+        Placeholder[] bound = new Placeholder[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            bound[i] = placeholders.get(keys[i]);
+        }
+        return bound;
+    }
+
+    /**
+     * Retrieves the generation of the registry, which changes whenever a placeholder is registered or unregistered.
+     *
+     * @return The current generation.
+     */
+    public long getGeneration() {
+        return generation.get();
+    }
+}
@@ -0,0 +1,58 @@
+package io.github.tavstaldev.nexus.util;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.net.Inet4Address;
+import java.net.InetAddress;
+
+/**
+ * The AddressUtil class provides utility methods for turning IP addresses into {@code long} keys,
+ * so they can be stored in primitive tables and sketches.
+ */
+public class AddressUtil {
+
+    /**
+     * Creates the key of an address. IPv4 keys are the address itself, IPv6 keys are a hash of the address.
+     * The sign bit is set for IPv6 keys, keeping them apart from IPv4 keys.
+     *
+     * @param address The address.
+     * @return The key of the address.
+     */
+    public static long addressKey(@NotNull InetAddress address) {
+        if (address instanceof Inet4Address) {
+            // The hash code of an IPv4 address is the address itself, reading it does not copy the bytes.
+            return address.hashCode() & 0xFFFFFFFFL;
+        }
+        byte[] bytes = address.getAddress();
+        return (readLong(bytes, 0) * 31 + readLong(bytes, 8)) | Long.MIN_VALUE;
+    }
+
+    /**
+     * Creates the key of the network of an address, the /24 network for IPv4 and the /48 network for IPv6.
+     * The sign bit is set for IPv6 keys, keeping them apart from IPv4 keys.
+     *
+     * @param address The address.
+     * @return The key of the network of the address.
+     */
+    public static long networkKey(@NotNull InetAddress address) {
+        if (address instanceof Inet4Address) {
+            return (address.hashCode() & 0xFFFFFFFFL) >>> 8;
+        }
+        return (readLong(address.getAddress(), 0) >>> 16) | Long.MIN_VALUE;
+    }
+
+    /**
+     * Reads 8 bytes of an address as a big-endian long.
+     *
+     * @param bytes  The bytes of the address.
+     * @param offset The index of the first byte.
+     * @return The long value.
+     */
+    private static long readLong(byte[] bytes, int offset) {
+        long value = 0;
+        for (int i = offset; i < offset + 8; i++) {
+            value = (value << 8) | (bytes[i] & 0xFF);
+        }
+        return value;
+    }
+}
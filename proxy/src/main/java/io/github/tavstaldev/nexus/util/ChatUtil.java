@@ -1,9 +1,12 @@
 package io.github.tavstaldev.nexus.util;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.github.tavstaldev.nexus.Nexus;
+import io.github.tavstaldev.nexus.placeholder.PlaceholderContext;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.TextDecoration;
 import net.kyori.adventure.text.minimessage.MiniMessage;
-import org.intellij.lang.annotations.RegExp;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.Map;
@@ -13,29 +16,66 @@ import java.util.Map;
  * It supports parameterized messages and color code translations using MiniMessage syntax.
  */
 public class ChatUtil {
+    // A bounded cache of compiled message templates, keyed by their raw format.
+    private static final Cache<@NotNull String, @NotNull MessageTemplate> templates = CacheBuilder.newBuilder()
+            .maximumSize(512)
+            .build();
+
+    // A bounded memo of recently translated legacy strings, keyed by the raw string.
+    private static final Cache<@NotNull String, @NotNull String> translations = CacheBuilder.newBuilder()
+            .maximumSize(1024)
+            .build();
 
     /**
-     * Builds a chat message by replacing placeholders in the message with the provided parameters.
+     * Builds a chat message by filling the placeholders of the compiled template of the message
+     * with the provided parameters.
      *
      * @param message    The raw message containing placeholders (e.g., %key%).
      * @param parameters A map of placeholder keys and their corresponding replacement values.
      * @return A Component representing the formatted message.
      */
     public static Component buildMessage(@NotNull String message, @NotNull Map<String, Object> parameters) {
-        String rawMessage = message;
-
-        // Get the keys
-        var keys = parameters.keySet();
-        for (@RegExp var dirKey : keys) {
-            @RegExp String finalKey;
-            if (dirKey.startsWith("%"))
-                finalKey = dirKey;
-            else
-                finalKey = "%" + dirKey + "%";
-            rawMessage = rawMessage.replace(finalKey, parameters.get(dirKey).toString());
+        return template(message).render(parameters);
+    }
+
+    /**
+     * Builds a chat message by filling the placeholders of the compiled template of the message
+     * from the provided context and the registered placeholders.
+     *
+     * @param message The raw message containing placeholders (e.g., %key%).
+     * @param context The context of the message.
+     * @return A Component representing the formatted message.
+     */
+    public static Component buildMessage(@NotNull String message, @NotNull PlaceholderContext context) {
+        return template(message).render(context, Nexus.plugin.getPlaceholderRegistry(), Map.of());
+    }
+
+    /**
+     * Retrieves the compiled template of a raw format, compiling it if it is not cached yet.
+     *
+     * @param format The raw format containing placeholders (e.g., %key%).
+     * @return The compiled MessageTemplate.
+     */
+    public static MessageTemplate template(@NotNull String format) {
+        MessageTemplate template = templates.getIfPresent(format);
+        if (template == null) {
+            template = MessageTemplate.compile(format);
+            templates.put(format, template);
         }
+        return template;
+    }
 
-        return translateColors(rawMessage, true);
+    /**
+     * Compiles the given formats ahead of time, so the first message using them does not pay
+     * the parsing cost.
+     *
+     * @param formats The raw formats to compile.
+     */
+    public static void precompile(@NotNull String... formats) {
+        for (String format : formats) {
+            if (format != null)
+                templates.put(format, MessageTemplate.compile(format));
+        }
     }
 
     /**
@@ -50,60 +90,128 @@ public class ChatUtil {
         if (!checkLegacy)
             return MiniMessage.miniMessage().deserialize(message).decoration(TextDecoration.ITALIC, false);
 
-        // Convert '&' to '§' first (since ChatColor.stripColor requires '§')
-        String legacyColor = translateAlternateColorCodes(message);
-        return MiniMessage.miniMessage().deserialize(legacyToMiniMessage(legacyColor)).decoration(TextDecoration.ITALIC, false);
+        return MiniMessage.miniMessage().deserialize(legacyToMiniMessage(message)).decoration(TextDecoration.ITALIC, false);
+    }
+
+    /**
+     * Converts legacy color codes ('&' or '§' followed by a code character) to MiniMessage tags.
+     * Recently translated strings are memoized, strings without any legacy code are returned as-is.
+     *
+     * @param message The string containing legacy color codes.
+     * @return The string with MiniMessage tags replacing legacy color codes.
+     */
+    static @NotNull String legacyToMiniMessage(@NotNull String message) {
+        if (message.indexOf('&') < 0 && message.indexOf('§') < 0)
+            return message;
+
+        String translated = translations.getIfPresent(message);
+        if (translated == null) {
+            translated = translateLegacy(message);
+            translations.put(message, translated);
+        }
+        return translated;
     }
 
     /**
-     * Translates alternate color codes ('&' followed by a color code character) in a given string
-     * to the Minecraft color code character '§'.
+     * Converts legacy color codes to MiniMessage tags in a single pass over the input.
+     * Supports the hex color format of Spigot ('&x&r&r&g&g&b&b'), which is converted to '<#rrggbb>'.
+     * The output buffer is only allocated once the first legacy code is found.
      *
-     * @param textToTranslate The string containing the alternate color codes to be translated.
-     * @return The translated string with Minecraft color codes.
+     * @param message The string containing legacy color codes.
+     * @return The string with MiniMessage tags replacing legacy color codes.
      */
-    private static @NotNull String translateAlternateColorCodes(@NotNull String textToTranslate) {
-        char[] b = textToTranslate.toCharArray();
+    static @NotNull String translateLegacy(@NotNull String message) {
+        StringBuilder builder = null;
+        int copied = 0;
+        int length = message.length();
+        for (int i = 0; i < length - 1; i++) {
+            char c = message.charAt(i);
+            if (c != '&' && c != '§')
+                continue;
 
-        for(int i = 0; i < b.length - 1; ++i) {
-            if (b[i] == '&' && "0123456789AaBbCcDdEeFfKkLlMmNnOoRrXx".indexOf(b[i + 1]) > -1) {
-                b[i] = 167;
-                b[i + 1] = Character.toLowerCase(b[i + 1]);
+            char code = Character.toLowerCase(message.charAt(i + 1));
+            int consumed;
+            String tag;
+            if (code == 'x' && isHexSequence(message, i)) {
+                tag = null;
+                consumed = 14;
+            } else {
+                tag = legacyTag(code);
+                if (tag == null)
+                    continue;
+                consumed = 2;
             }
+
+            if (builder == null)
+                builder = new StringBuilder(length + 32);
+            builder.append(message, copied, i);
+            if (tag != null) {
+                builder.append(tag);
+            } else {
+                builder.append("<#");
+                for (int digit = i + 3; digit < i + consumed; digit += 2) {
+                    builder.append(Character.toLowerCase(message.charAt(digit)));
+                }
+                builder.append('>');
+            }
+            i += consumed - 1;
+            copied = i + 1;
         }
 
-        return new String(b);
+        if (builder == null)
+            return message;
+        return builder.append(message, copied, length).toString();
     }
 
     /**
-     * Converts legacy '§' color codes to MiniMessage tags.
+     * Checks whether a hex color sequence ('&x' followed by six '&'-prefixed hex digits) starts at the given index.
      *
-     * @param message The string containing legacy color codes.
-     * @return The string with MiniMessage tags replacing legacy color codes.
+     * @param message The string to check.
+     * @param start   The index of the '&' or '§' character of the '&x' prefix.
+     * @return True if a complete hex color sequence starts at the index, otherwise false.
+     */
+    private static boolean isHexSequence(@NotNull String message, int start) {
+        if (start + 14 > message.length())
+            return false;
+        for (int i = start + 2; i < start + 14; i += 2) {
+            char prefix = message.charAt(i);
+            if ((prefix != '&' && prefix != '§') || Character.digit(message.charAt(i + 1), 16) < 0)
+                return false;
+        }
+        return true;
+    }
+
+    /**
+     * Retrieves the MiniMessage tag of a legacy code character.
+     *
+     * @param code The lowercase legacy code character.
+     * @return The MiniMessage tag, or null if the character is not a legacy code.
      */
-    private static String legacyToMiniMessage(String message) {
-        return message
-                .replace("§0", "<black>")
-                .replace("§1", "<dark_blue>")
-                .replace("§2", "<dark_green>")
-                .replace("§3", "<dark_aqua>")
-                .replace("§4", "<dark_red>")
-                .replace("§5", "<dark_purple>")
-                .replace("§6", "<gold>")
-                .replace("§7", "<gray>")
-                .replace("§8", "<dark_gray>")
-                .replace("§9", "<blue>")
-                .replace("§a", "<green>")
-                .replace("§b", "<aqua>")
-                .replace("§c", "<red>")
-                .replace("§d", "<light_purple>")
-                .replace("§e", "<yellow>")
-                .replace("§f", "<white>")
-                .replace("§l", "<bold>")
-                .replace("§o", "<italic>")
-                .replace("§n", "<underlined>")
-                .replace("§m", "<strikethrough>")
-                .replace("§k", "<obfuscated>")
-                .replace("§r", "<reset>");
+    private static String legacyTag(char code) {
+        return switch (code) {
+            case '0' -> "<black>";
+            case '1' -> "<dark_blue>";
+            case '2' -> "<dark_green>";
+            case '3' -> "<dark_aqua>";
+            case '4' -> "<dark_red>";
+            case '5' -> "<dark_purple>";
+            case '6' -> "<gold>";
+            case '7' -> "<gray>";
+            case '8' -> "<dark_gray>";
+            case '9' -> "<blue>";
+            case 'a' -> "<green>";
+            case 'b' -> "<aqua>";
+            case 'c' -> "<red>";
+            case 'd' -> "<light_purple>";
+            case 'e' -> "<yellow>";
+            case 'f' -> "<white>";
+            case 'l' -> "<bold>";
+            case 'o' -> "<italic>";
+            case 'n' -> "<underlined>";
+            case 'm' -> "<strikethrough>";
+            case 'k' -> "<obfuscated>";
+            case 'r' -> "<reset>";
+            default -> null;
+        };
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,293 @@
+package io.github.tavstaldev.nexus.util;
+
+import com.velocitypowered.api.util.Favicon;
+import org.jetbrains.annotations.NotNull;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.awt.image.IndexColorModel;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The FavIconOptimizer class prepares server icons for the server list ping.
+ * Icons are resized to 64x64 pixels and re-encoded with the smallest lossless PNG encoding found,
+ * since the encoded icon is sent with every ping response. Icons that are already 64x64 pixels keep
+ * their original file if no re-encoding is smaller, e.g. when they were compressed with an external tool.
+ */
+public class FavIconOptimizer {
+    // The width and height of a server icon, in pixels.
+    public static final int ICON_SIZE = 64;
+
+    // The prefix of the data URL of a PNG image.
+    private static final String DATA_URL_PREFIX = "data:image/png;base64,";
+
+    // The largest icon file accepted, in bytes.
+    public static final long MAX_FILE_SIZE = 4L * 1024 * 1024;
+
+    // The largest width and height of an icon accepted before decoding it, in pixels.
+    private static final int MAX_DIMENSION = 1024;
+
+    // The signature every PNG file starts with.
+    private static final byte[] PNG_SIGNATURE = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'};
+
+    /**
+     * Checks the header of a PNG file before it is decoded, so a huge image does not have to be
+     * decoded to find out it is too large. The width and height are read from the IHDR chunk,
+     * which has to be the first chunk of the file.
+     *
+     * @param png The content of the file.
+     * @throws IOException If the file is not a PNG, or the image is larger than 1024x1024 pixels.
+     */
+    public static void checkHeader(byte @NotNull [] png) throws IOException {
+        // The signature, followed by the length and type of the IHDR chunk, the width and the height.
+        if (png.length < 24)
+            throw new IOException("the file is not a PNG image");
+        for (int i = 0; i < PNG_SIGNATURE.length; i++) {
+            if (png[i] != PNG_SIGNATURE[i])
+                throw new IOException("the file is not a PNG image");
+        }
+        if (png[12] != 'I' || png[13] != 'H' || png[14] != 'D' || png[15] != 'R')
+            throw new IOException("the PNG image has no header");
+
+        long width = readUnsignedInt(png, 16);
+        long height = readUnsignedInt(png, 20);
+        if (width == 0 || height == 0 || width > MAX_DIMENSION || height > MAX_DIMENSION)
+            throw new IOException(String.format("the image is %dx%d pixels, at most %dx%d is accepted", width, height, MAX_DIMENSION, MAX_DIMENSION));
+    }
+
+    /**
+     * Resizes and re-encodes an icon. The encoding is chosen from a full color, an opaque color
+     * and an indexed color PNG, each compressed with the highest deflate level, keeping the smallest.
+     * Indexed and opaque encodings are only tried when they preserve every pixel.
+     * If the icon did not have to be resized, its original file is kept when it is the smallest.
+     *
+     * @param image    The decoded icon.
+     * @param original The content of the icon file.
+     * @return The OptimizedIcon.
+     * @throws IOException If the icon could not be encoded.
+     */
+    public static OptimizedIcon optimize(@NotNull BufferedImage image, byte @NotNull [] original) throws IOException {
+        boolean resized = image.getWidth() != ICON_SIZE || image.getHeight() != ICON_SIZE;
+        BufferedImage icon = resize(image);
+        int[] pixels = icon.getRGB(0, 0, ICON_SIZE, ICON_SIZE, null, 0, ICON_SIZE);
+
+        byte[] best = encode(icon);
+        boolean opaque = isOpaque(pixels);
+        if (opaque) {
+            best = smallest(best, encode(copy(pixels, BufferedImage.TYPE_INT_RGB)));
+        }
+        BufferedImage indexed = toIndexed(pixels, opaque);
+        if (indexed != null) {
+            best = smallest(best, encode(indexed));
+        }
+        if (!resized) {
+            best = smallest(original, best);
+        }
+
+        Favicon favicon = new Favicon(DATA_URL_PREFIX + Base64.getEncoder().encodeToString(best));
+        return new OptimizedIcon(favicon, original.length, best.length, resized);
+    }
+
+    /**
+     * Resizes an icon to 64x64 pixels. Icons already having the right size are only converted to ARGB.
+     *
+     * @param image The icon to resize.
+     * @return The resized icon.
+     */
+    private static BufferedImage resize(@NotNull BufferedImage image) {
+        BufferedImage resized = new BufferedImage(ICON_SIZE, ICON_SIZE, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D graphics = resized.createGraphics();
+        try {
+            if (image.getWidth() == ICON_SIZE && image.getHeight() == ICON_SIZE) {
+                graphics.drawImage(image, 0, 0, null);
+                return resized;
+            }
+
+            // Halve large icons step by step, a single bicubic pass skips most of their pixels.
+            BufferedImage source = image;
+            while (source.getWidth() >= ICON_SIZE * 2 && source.getHeight() >= ICON_SIZE * 2) {
+                BufferedImage half = new BufferedImage(source.getWidth() / 2, source.getHeight() / 2, BufferedImage.TYPE_INT_ARGB);
+                Graphics2D halfGraphics = half.createGraphics();
+                halfGraphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                halfGraphics.drawImage(source, 0, 0, half.getWidth(), half.getHeight(), null);
+                halfGraphics.dispose();
+                source = half;
+            }
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(source, 0, 0, ICON_SIZE, ICON_SIZE, null);
+            return resized;
+        } finally {
+            graphics.dispose();
+        }
+    }
+
+    /**
+     * Checks whether every pixel of an icon is fully opaque.
+     *
+     * @param pixels The ARGB pixels of the icon.
+     * @return True if no pixel is transparent.
+     */
+    private static boolean isOpaque(int[] pixels) {
+        for (int pixel : pixels) {
+            if (pixel >>> 24 != 0xFF)
+                return false;
+        }
+        return true;
+    }
+
+    /**
+     * Copies the pixels of an icon into an image of the specified type.
+     *
+     * @param pixels The ARGB pixels of the icon.
+     * @param type   The type of the image.
+     * @return The new image.
+     */
+    private static BufferedImage copy(int[] pixels, int type) {
+        BufferedImage image = new BufferedImage(ICON_SIZE, ICON_SIZE, type);
+        image.setRGB(0, 0, ICON_SIZE, ICON_SIZE, pixels, 0, ICON_SIZE);
+        return image;
+    }
+
+    /**
+     * Converts an icon into an indexed color image, if it has at most 256 distinct colors.
+     *
+     * @param pixels The ARGB pixels of the icon.
+     * @param opaque Whether every pixel of the icon is opaque.
+     * @return The indexed image, or null if the icon has too many colors.
+     */
+    private static BufferedImage toIndexed(int[] pixels, boolean opaque) {
+        Map<Integer, Integer> palette = new HashMap<>();
+        for (int pixel : pixels) {
+            // Fully transparent pixels look the same whatever their color is.
+            int color = pixel >>> 24 == 0 ? 0 : pixel;
+            if (palette.putIfAbsent(color, palette.size()) == null && palette.size() > 256)
+                return null;
+        }
+
+        int size = palette.size();
+        byte[] reds = new byte[size];
+        byte[] greens = new byte[size];
+        byte[] blues = new byte[size];
+        byte[] alphas = new byte[size];
+        for (var entry : palette.entrySet()) {
+            int color = entry.getKey();
+            int index = entry.getValue();
+            alphas[index] = (byte) (color >>> 24);
+            reds[index] = (byte) (color >>> 16);
+            greens[index] = (byte) (color >>> 8);
+            blues[index] = (byte) color;
+        }
+        int bits = size <= 2 ? 1 : size <= 4 ? 2 : size <= 16 ? 4 : 8;
+        IndexColorModel colorModel = opaque
+                ? new IndexColorModel(bits, size, reds, greens, blues)
+                : new IndexColorModel(bits, size, reds, greens, blues, alphas);
+
+        int type = bits == 8 ? BufferedImage.TYPE_BYTE_INDEXED : BufferedImage.TYPE_BYTE_BINARY;
+        BufferedImage image = new BufferedImage(ICON_SIZE, ICON_SIZE, type, colorModel);
+        var raster = image.getRaster();
+        for (int i = 0; i < pixels.length; i++) {
+            int color = pixels[i] >>> 24 == 0 ? 0 : pixels[i];
+            raster.setSample(i % ICON_SIZE, i / ICON_SIZE, 0, palette.get(color));
+        }
+        return image;
+    }
+
+    /**
+     * Encodes an image as a PNG with the highest deflate level.
+     *
+     * @param image The image to encode.
+     * @return The encoded PNG.
+     * @throws IOException If the image could not be encoded.
+     */
+    private static byte[] encode(BufferedImage image) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("png").next();
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (ImageOutputStream stream = ImageIO.createImageOutputStream(output)) {
+            writer.setOutput(stream);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            if (param.canWriteCompressed()) {
+                param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+                // A quality of 0 selects the highest deflate level.
+                param.setCompressionQuality(0.0f);
+            }
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return output.toByteArray();
+    }
+
+    /**
+     * Reads a big-endian unsigned 32-bit integer.
+     *
+     * @param data   The data to read from.
+     * @param offset The offset of the integer.
+     * @return The integer.
+     */
+    private static long readUnsignedInt(byte[] data, int offset) {
+        return ((data[offset] & 0xFFL) << 24) | ((data[offset + 1] & 0xFFL) << 16)
+                | ((data[offset + 2] & 0xFFL) << 8) | (data[offset + 3] & 0xFFL);
+    }
+
+    /**
+     * Picks the smaller of two encodings.
+     *
+     * @param current   The smallest encoding so far.
+     * @param candidate The encoding to compare.
+     * @return The smaller encoding, or the current one if they are the same size.
+     */
+    private static byte[] smallest(byte[] current, byte[] candidate) {
+        return candidate.length < current.length ? candidate : current;
+    }
+
+    /**
+     * An optimized icon and the sizes before and after the optimization.
+     */
+    public static final class OptimizedIcon {
+        // The optimized icon.
+        private final Favicon favicon;
+
+        // The size of the icon file, in bytes.
+        private final long originalSize;
+
+        // The size of the optimized PNG, in bytes.
+        private final long encodedSize;
+
+        // Whether the icon had to be resized.
+        private final boolean resized;
+
+        private OptimizedIcon(Favicon favicon, long originalSize, long encodedSize, boolean resized) {
+            this.favicon = favicon;
+            this.originalSize = originalSize;
+            this.encodedSize = encodedSize;
+            this.resized = resized;
+        }
+
+        public Favicon getFavicon() {
+            return favicon;
+        }
+
+        public long getOriginalSize() {
+            return originalSize;
+        }
+
+        public long getEncodedSize() {
+            return encodedSize;
+        }
+
+        public boolean isResized() {
+            return resized;
+        }
+    }
+}
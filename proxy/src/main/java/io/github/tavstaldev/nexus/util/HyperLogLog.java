@@ -0,0 +1,128 @@
+package io.github.tavstaldev.nexus.util;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+
+/**
+ * The HyperLogLog class estimates the number of distinct {@code long} keys added to it, using a fixed
+ * amount of memory regardless of how many keys are added.
+ * <p>
+ * Registers are updated with compare-and-set, so keys can be added from many threads without locking.
+ */
+public class HyperLogLog {
+    // The handle used to update the registers atomically.
+    private static final VarHandle REGISTER = MethodHandles.arrayElementVarHandle(byte[].class);
+
+    // The number of bits of the hash selecting the register.
+    private final int precision;
+
+    // The registers, holding the highest rank seen for each of them.
+    private final byte[] registers;
+
+    /**
+     * Constructs a new HyperLogLog.
+     *
+     * @param precision The number of bits selecting the register, between 4 and 16.
+     *                  The sketch uses 2^precision bytes, its standard error is about 1.04 / sqrt(2^precision).
+     */
+    public HyperLogLog(int precision) {
+        if (precision < 4 || precision > 16)
+            throw new IllegalArgumentException("The precision must be between 4 and 16.");
+        this.precision = precision;
+        this.registers = new byte[1 << precision];
+    }
+
+    /**
+     * Adds a key to the sketch.
+     *
+     * @param key The key to add.
+     */
+    public void add(long key) {
+        long hash = mix(key);
+        int index = (int) (hash >>> (64 - precision));
+        byte rank = (byte) (Long.numberOfLeadingZeros((hash << precision) | (1L << (precision - 1))) + 1);
+        byte current;
+        do {
+            current = (byte) REGISTER.getVolatile(registers, index);
+            if (current >= rank)
+                return;
+        } while (!REGISTER.compareAndSet(registers, index, current, rank));
+    }
+
+    /**
+     * Estimates the number of distinct keys added to the sketch.
+     *
+     * @return The estimated number of distinct keys.
+     */
+    public long estimate() {
+        return estimate(registers);
+    }
+
+    /**
+     * Estimates the number of distinct keys added to any of the given sketches.
+     * Every sketch must have the same precision.
+     *
+     * @param sketches The sketches to merge.
+     * @return The estimated number of distinct keys.
+     */
+    public static long estimateUnion(HyperLogLog... sketches) {
+        if (sketches.length == 0)
+            return 0;
+        byte[] merged = new byte[sketches[0].registers.length];
+        for (HyperLogLog sketch : sketches) {
+            if (sketch.registers.length != merged.length)
+                throw new IllegalArgumentException("The sketches must have the same precision.");
+            for (int i = 0; i < merged.length; i++) {
+                merged[i] = (byte) Math.max(merged[i], sketch.registers[i]);
+            }
+        }
+        return estimate(merged);
+    }
+
+    /**
+     * Removes every key from the sketch.
+     */
+    public void clear() {
+        Arrays.fill(registers, (byte) 0);
+        VarHandle.fullFence();
+    }
+
+    /**
+     * Estimates the number of distinct keys from a set of registers, using linear counting
+     * while many registers are still empty.
+     *
+     * @param registers The registers.
+     * @return The estimated number of distinct keys.
+     */
+    private static long estimate(byte[] registers) {
+        int m = registers.length;
+        double sum = 0;
+        int zeros = 0;
+        for (byte register : registers) {
+            sum += 1.0 / (1L << register);
+            if (register == 0)
+                zeros++;
+        }
+        double alpha = m == 16 ? 0.673 : m == 32 ? 0.697 : m == 64 ? 0.709 : 0.7213 / (1 + 1.079 / m);
+        double estimate = alpha * m * m / sum;
+        if (estimate <= 2.5 * m && zeros > 0)
+            estimate = m * Math.log((double) m / zeros);
+        return Math.round(estimate);
+    }
+
+    /**
+     * Spreads the bits of a key, so similar keys get unrelated hashes.
+     *
+     * @param key The key to hash.
+     * @return The hash of the key.
+     */
+    private static long mix(long key) {
+        key ^= key >>> 33;
+        key *= 0xff51afd7ed558ccdL;
+        key ^= key >>> 33;
+        key *= 0xc4ceb93fe1a85ec3L;
+        key ^= key >>> 33;
+        return key;
+    }
+}
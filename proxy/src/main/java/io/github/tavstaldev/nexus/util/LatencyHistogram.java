@@ -0,0 +1,118 @@
+package io.github.tavstaldev.nexus.util;
+
+import java.util.Arrays;
+
+/**
+ * The LatencyHistogram class counts latencies in a fixed number of logarithmic buckets.
+ * <p>
+ * Every power of two is split into {@value #SUB_BUCKETS} buckets, so a percentile read from the histogram
+ * is at most 25% above the actual latency, while the histogram always takes the same 1 KiB no matter how
+ * many latencies are recorded. Latencies are recorded in microseconds, up to about 35 minutes.
+ * <p>
+ * The class is not thread safe, callers have to synchronize access to it.
+ */
+public final class LatencyHistogram {
+    // The number of buckets every power of two is split into.
+    private static final int SUB_BUCKETS = 4;
+
+    // The number of bits needed to address the sub-buckets of a power of two.
+    private static final int SUB_BUCKET_BITS = 2;
+
+    // The highest power of two tracked, larger latencies are counted in the last bucket.
+    private static final int MAX_EXPONENT = 30;
+
+    // The number of buckets of the histogram.
+    private static final int BUCKET_COUNT = (MAX_EXPONENT + 1) * SUB_BUCKETS;
+
+    // The number of latencies in every bucket.
+    private final long[] counts = new long[BUCKET_COUNT];
+
+    // The total number of recorded latencies.
+    private long totalCount;
+
+    /**
+     * Records a latency.
+     *
+     * @param micros The latency, in microseconds.
+     */
+    public void record(long micros) {
+        counts[bucketOf(micros)]++;
+        totalCount++;
+    }
+
+    /**
+     * Forgets every recorded latency.
+     */
+    public void reset() {
+        Arrays.fill(counts, 0L);
+        totalCount = 0L;
+    }
+
+    /**
+     * Retrieves the number of recorded latencies.
+     *
+     * @return The number of recorded latencies.
+     */
+    public long getCount() {
+        return totalCount;
+    }
+
+    /**
+     * Calculates a percentile over the latencies of several histograms combined.
+     *
+     * @param quantile   The percentile to calculate, between 0 and 1.
+     * @param histograms The histograms to combine.
+     * @return The upper bound of the bucket containing the percentile in microseconds, or -1 if nothing was recorded.
+     */
+    public static long percentile(double quantile, LatencyHistogram... histograms) {
+        long total = 0L;
+        for (LatencyHistogram histogram : histograms) {
+            total += histogram.totalCount;
+        }
+        if (total == 0L)
+            return -1L;
+
+        long rank = Math.max(1L, (long) Math.ceil(quantile * total));
+        long seen = 0L;
+        for (int bucket = 0; bucket < BUCKET_COUNT; bucket++) {
+            for (LatencyHistogram histogram : histograms) {
+                seen += histogram.counts[bucket];
+            }
+            if (seen >= rank)
+                return upperBoundOf(bucket);
+        }
+        return upperBoundOf(BUCKET_COUNT - 1);
+    }
+
+    /**
+     * Calculates the bucket of a latency.
+     *
+     * @param micros The latency, in microseconds.
+     * @return The index of the bucket.
+     */
+    private static int bucketOf(long micros) {
+        if (micros < SUB_BUCKETS)
+            return (int) Math.max(0L, micros);
+
+        int exponent = 63 - Long.numberOfLeadingZeros(micros);
+        if (exponent > MAX_EXPONENT)
+            return BUCKET_COUNT - 1;
+        int subBucket = (int) (micros >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return exponent * SUB_BUCKETS + subBucket;
+    }
+
+    /**
+     * Calculates the largest latency counted in a bucket.
+     *
+     * @param bucket The index of the bucket.
+     * @return The largest latency of the bucket, in microseconds.
+     */
+    private static long upperBoundOf(int bucket) {
+        if (bucket < SUB_BUCKETS)
+            return bucket;
+
+        int exponent = bucket / SUB_BUCKETS;
+        int subBucket = bucket % SUB_BUCKETS;
+        return ((long) (SUB_BUCKETS + subBucket + 1) << (exponent - SUB_BUCKET_BITS)) - 1;
+    }
+}
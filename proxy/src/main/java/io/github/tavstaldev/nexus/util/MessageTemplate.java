@@ -0,0 +1,411 @@
+package io.github.tavstaldev.nexus.util;
+
+import io.github.tavstaldev.nexus.placeholder.Placeholder;
+import io.github.tavstaldev.nexus.placeholder.PlaceholderContext;
+import io.github.tavstaldev.nexus.placeholder.PlaceholderRegistry;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.ComponentLike;
+import net.kyori.adventure.text.TextComponent;
+import net.kyori.adventure.text.format.TextDecoration;
+import net.kyori.adventure.text.minimessage.MiniMessage;
+import net.kyori.adventure.text.minimessage.tag.Tag;
+import net.kyori.adventure.text.minimessage.tag.resolver.TagResolver;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+
+/**
+ * The MessageTemplate class represents a chat format that has been parsed once into a component tree.
+ * Placeholders (e.g., %key%) become slots that are filled in at send time, so rendering a message
+ * only allocates the components that hold the dynamic values and the nodes leading to them.
+ */
+public final class MessageTemplate {
+    // Private use character that marks a slot component inside the parsed tree.
+    private static final char SLOT_MARKER = '\uE000';
+
+    // Name prefix of the MiniMessage tags that are inserted in place of the placeholders.
+    private static final String SLOT_TAG = "nexus_slot_";
+
+    // MiniMessage instance that does not compact its output, so slot components stay separate nodes.
+    private static final MiniMessage TEMPLATE_PARSER = MiniMessage.builder()
+            .postProcessor(UnaryOperator.identity())
+            .build();
+
+    // The raw format this template was compiled from.
+    private final String format;
+
+    // The placeholder keys, indexed by slot number.
+    private final String[] slotKeys;
+
+    // The root of the precompiled tree, or null if the format has to be rendered the legacy way.
+    private final @Nullable Node root;
+
+    // The placeholders the slots are bound to, or null until the template is first rendered with a context.
+    private volatile @Nullable Binding binding;
+
+    /**
+     * Constructs a MessageTemplate instance.
+     *
+     * @param format   The raw format this template was compiled from.
+     * @param slotKeys The placeholder keys, indexed by slot number.
+     * @param root     The root of the precompiled tree, or null if the template is not precompiled.
+     */
+    private MessageTemplate(String format, String[] slotKeys, @Nullable Node root) {
+        this.format = format;
+        this.slotKeys = slotKeys;
+        this.root = root;
+    }
+
+    /**
+     * Compiles a raw format into a template. Legacy color codes are translated and the MiniMessage
+     * markup is deserialized once. Formats with placeholders inside tag arguments (e.g., a hover text
+     * or click action containing %player%) cannot be split into static parts, those templates fall
+     * back to replacing the placeholders and parsing the whole string at render time.
+     *
+     * @param format The raw format containing placeholders (e.g., %key%).
+     * @return The compiled template.
+     */
+    public static MessageTemplate compile(@NotNull String format) {
+        String translated = ChatUtil.legacyToMiniMessage(format);
+
+        Map<String, Integer> slots = new LinkedHashMap<>();
+        StringBuilder builder = new StringBuilder(translated.length() + 16);
+        boolean inTag = false;
+        char quote = 0;
+        int length = translated.length();
+        for (int i = 0; i < length; i++) {
+            char c = translated.charAt(i);
+            if (inTag) {
+                // Skip over quoted tag arguments, they may contain nested markup.
+                if (quote != 0) {
+                    if (c == quote)
+                        quote = 0;
+                } else if (c == '\'' || c == '"') {
+                    quote = c;
+                } else if (c == '>') {
+                    inTag = false;
+                }
+            } else if (c == '\\' && i + 1 < length) {
+                builder.append(c).append(translated.charAt(++i));
+                continue;
+            } else if (c == '<') {
+                inTag = true;
+            }
+
+            if (c == '%') {
+                int end = findPlaceholderEnd(translated, i + 1);
+                if (end > 0) {
+                    if (inTag)
+                        return new MessageTemplate(format, collectKeys(translated), null);
+
+                    String key = translated.substring(i + 1, end);
+                    int slot = slots.computeIfAbsent(key, k -> slots.size());
+                    builder.append('<').append(SLOT_TAG).append(slot).append('>');
+                    i = end;
+                    continue;
+                }
+            }
+            builder.append(c);
+        }
+
+        TagResolver.Builder resolvers = TagResolver.builder();
+        for (int slot = 0; slot < slots.size(); slot++) {
+            resolvers.tag(SLOT_TAG + slot, Tag.selfClosingInserting(Component.text(SLOT_MARKER + String.valueOf(slot))));
+        }
+        // Wrap the parsed tree, so the root itself is never a slot.
+        Component parsed = Component.text()
+                .decoration(TextDecoration.ITALIC, false)
+                .append(TEMPLATE_PARSER.deserialize(builder.toString(), resolvers.build()))
+                .build();
+        return new MessageTemplate(format, slots.keySet().toArray(new String[0]), Node.of(parsed));
+    }
+
+    /**
+     * Collects the placeholder keys of a format, in order of their first occurrence.
+     *
+     * @param text The format to search.
+     * @return The distinct placeholder keys.
+     */
+    private static String[] collectKeys(String text) {
+        List<String> keys = new ArrayList<>();
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) != '%')
+                continue;
+            int end = findPlaceholderEnd(text, i + 1);
+            if (end > 0) {
+                String key = text.substring(i + 1, end);
+                if (!keys.contains(key))
+                    keys.add(key);
+                i = end;
+            }
+        }
+        return keys.toArray(new String[0]);
+    }
+
+    /**
+     * Finds the closing '%' of a placeholder whose key starts at the given index.
+     *
+     * @param text  The text to search.
+     * @param start The index of the first key character.
+     * @return The index of the closing '%', or -1 if the text does not contain a placeholder there.
+     */
+    private static int findPlaceholderEnd(String text, int start) {
+        for (int i = start; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '%')
+                return i > start ? i : -1;
+            if (!Character.isLetterOrDigit(c) && c != '_' && c != '-' && c != '.')
+                return -1;
+        }
+        return -1;
+    }
+
+    /**
+     * Renders the template with the provided parameters. Placeholders without a value are kept as-is.
+     *
+     * @param parameters A map of placeholder keys and their corresponding replacement values.
+     * @return A Component representing the formatted message.
+     */
+    public Component render(@NotNull Map<String, ?> parameters) {
+        return render(parameters, Map.of());
+    }
+
+    /**
+     * Renders the template with the provided parameters. Placeholders missing from the parameters
+     * are looked up in the defaults, placeholders without any value are kept as-is.
+     *
+     * @param parameters A map of placeholder keys and their corresponding replacement values.
+     * @param defaults   A map of values used for placeholders that are not in the parameters.
+     * @return A Component representing the formatted message.
+     */
+    public Component render(@NotNull Map<String, ?> parameters, @NotNull Map<String, ?> defaults) {
+        if (root == null)
+            return renderLegacy(parameters, defaults);
+
+        if (slotKeys.length == 0)
+            return root.component;
+
+        Component[] values = new Component[slotKeys.length];
+        for (int slot = 0; slot < slotKeys.length; slot++) {
+            String key = slotKeys[slot];
+            Object value = parameters.get(key);
+            if (value == null && !parameters.isEmpty())
+                value = parameters.get("%" + key + "%");
+            if (value == null)
+                value = defaults.get(key);
+            values[slot] = value == null ? Component.text("%" + key + "%") : toComponent(value);
+        }
+        return root.render(values);
+    }
+
+    /**
+     * Renders the template for a placeholder context. Every slot is filled from the values attached
+     * to the context first, then from the registered placeholder it is bound to, and finally from
+     * the defaults. Placeholders without any value are kept as-is.
+     *
+     * @param context  The context of the message.
+     * @param registry The registry of the placeholders.
+     * @param defaults A map of values used for placeholders that are not resolved from the context.
+     * @return A Component representing the formatted message.
+     */
+    public Component render(@NotNull PlaceholderContext context, @NotNull PlaceholderRegistry registry, @NotNull Map<String, ?> defaults) {
+        if (slotKeys.length == 0)
+            return root == null ? renderLegacy(Map.of(), defaults) : root.component;
+
+        Placeholder[] placeholders = bind(registry);
+        Object[] values = new Object[slotKeys.length];
+        for (int slot = 0; slot < slotKeys.length; slot++) {
+            Object value = context.getValue(slotKeys[slot]);
+            if (value == null && placeholders[slot] != null)
+                value = placeholders[slot].resolve(context);
+            values[slot] = value;
+        }
+
+        if (root == null) {
+            Map<String, Object> parameters = new HashMap<>();
+            for (int slot = 0; slot < slotKeys.length; slot++) {
+                if (values[slot] != null)
+                    parameters.put(slotKeys[slot], values[slot]);
+            }
+            return renderLegacy(parameters, defaults);
+        }
+
+        Component[] components = new Component[slotKeys.length];
+        for (int slot = 0; slot < slotKeys.length; slot++) {
+            Object value = values[slot] != null ? values[slot] : defaults.get(slotKeys[slot]);
+            components[slot] = value == null ? Component.text("%" + slotKeys[slot] + "%") : toComponent(value);
+        }
+        return root.render(components);
+    }
+
+    /**
+     * Binds the slots of the template to the placeholders of a registry. The binding is kept
+     * until the registry changes, so resolving a slot does not look up the placeholder by its key.
+     *
+     * @param registry The registry of the placeholders.
+     * @return The placeholders, indexed by slot number.
+     */
+    public Placeholder[] bind(@NotNull PlaceholderRegistry registry) {
+        Binding current = binding;
+        long generation = registry.getGeneration();
+        if (current != null && current.registry == registry && current.generation == generation)
+            return current.placeholders;
+
+        Placeholder[] placeholders = registry.bind(slotKeys);
+        binding = new Binding(registry, generation, placeholders);
+        return placeholders;
+    }
+
+    /**
+     * Renders the template by replacing the placeholders in the raw format and parsing the result.
+     * Used for formats that could not be precompiled.
+     *
+     * @param parameters A map of placeholder keys and their corresponding replacement values.
+     * @param defaults   A map of values used for placeholders that are not in the parameters.
+     * @return A Component representing the formatted message.
+     */
+    private Component renderLegacy(@NotNull Map<String, ?> parameters, @NotNull Map<String, ?> defaults) {
+        String rawMessage = format;
+        for (var entry : parameters.entrySet()) {
+            String key = entry.getKey();
+            String finalKey = key.startsWith("%") ? key : "%" + key + "%";
+            rawMessage = rawMessage.replace(finalKey, String.valueOf(entry.getValue()));
+        }
+        for (var entry : defaults.entrySet()) {
+            Object value = entry.getValue();
+            String text = value instanceof ComponentLike component
+                    ? MiniMessage.miniMessage().serialize(component.asComponent())
+                    : String.valueOf(value);
+            rawMessage = rawMessage.replace("%" + entry.getKey() + "%", text);
+        }
+        return ChatUtil.translateColors(rawMessage, true);
+    }
+
+    /**
+     * Converts a placeholder value into a component. Plain text is inserted as-is, while values
+     * containing color codes or MiniMessage tags are parsed, matching the behaviour of the old
+     * string replacement. The formatting of a parsed value does not leak into the rest of the message.
+     *
+     * @param value The placeholder value.
+     * @return The component representing the value.
+     */
+    private static Component toComponent(@NotNull Object value) {
+        if (value instanceof ComponentLike component)
+            return component.asComponent();
+
+        String text = value.toString();
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '&' || c == '§' || c == '<')
+                return MiniMessage.miniMessage().deserialize(ChatUtil.legacyToMiniMessage(text));
+        }
+        return Component.text(text);
+    }
+
+    /**
+     * Retrieves the raw format this template was compiled from.
+     *
+     * @return The raw format.
+     */
+    public String getFormat() {
+        return format;
+    }
+
+    /**
+     * Checks whether the template was precompiled or falls back to parsing at render time.
+     *
+     * @return True if the template was precompiled, otherwise false.
+     */
+    public boolean isPrecompiled() {
+        return root != null;
+    }
+
+    /**
+     * The placeholders the slots of a template are bound to, along with the registry generation they were bound at.
+     */
+    private static final class Binding {
+        private final PlaceholderRegistry registry;
+        private final long generation;
+        private final Placeholder[] placeholders;
+
+        private Binding(PlaceholderRegistry registry, long generation, Placeholder[] placeholders) {
+            this.registry = registry;
+            this.generation = generation;
+            this.placeholders = placeholders;
+        }
+    }
+
+    /**
+     * A node of the precompiled component tree. Subtrees without slots are kept as the parsed
+     * component and are shared by every rendered message.
+     */
+    private static final class Node {
+        // The parsed component, including its children.
+        private final Component component;
+
+        // The child nodes, or null if the subtree does not contain any slot.
+        private final Node[] children;
+
+        // The slot number if this node is a slot, otherwise -1.
+        private final int slot;
+
+        private Node(Component component, Node[] children, int slot) {
+            this.component = component;
+            this.children = children;
+            this.slot = slot;
+        }
+
+        /**
+         * Mirrors a parsed component into a node tree, marking the subtrees that contain slots.
+         *
+         * @param component The parsed component.
+         * @return The node representing the component.
+         */
+        private static Node of(Component component) {
+            if (component instanceof TextComponent text && !text.content().isEmpty() && text.content().charAt(0) == SLOT_MARKER) {
+                return new Node(component, null, Integer.parseInt(text.content().substring(1)));
+            }
+
+            List<Component> componentChildren = component.children();
+            Node[] nodes = new Node[componentChildren.size()];
+            boolean dynamic = false;
+            for (int i = 0; i < nodes.length; i++) {
+                nodes[i] = of(componentChildren.get(i));
+                dynamic |= nodes[i].isDynamic();
+            }
+
+            if (!dynamic)
+                return new Node(component.compact(), null, -1);
+            return new Node(component, nodes, -1);
+        }
+
+        private boolean isDynamic() {
+            return slot >= 0 || children != null;
+        }
+
+        /**
+         * Renders the node, rebuilding only the path to the slots.
+         *
+         * @param values The slot values, indexed by slot number.
+         * @return The rendered component.
+         */
+        private Component render(Component[] values) {
+            if (slot >= 0)
+                return values[slot];
+            if (children == null)
+                return component;
+
+            List<Component> rendered = new ArrayList<>(children.length);
+            for (Node child : children) {
+                rendered.add(child.render(values));
+            }
+            return component.children(rendered);
+        }
+    }
+}
@@ -3,6 +3,8 @@ package io.github.tavstaldev.nexus.util;
 import com.velocitypowered.api.command.CommandSource;
 import com.velocitypowered.api.proxy.Player;
 import io.github.tavstaldev.nexus.Nexus;
+import io.github.tavstaldev.nexus.config.MessageKey;
+import io.github.tavstaldev.nexus.placeholder.PlaceholderContext;
 import org.intellij.lang.annotations.RegExp;
 
 import java.util.Map;
@@ -88,4 +90,38 @@ public class MessageUtil {
 
         sendRichMsg(player, rawMessage);
     }
-}
\ No newline at end of file
+
+    /**
+     * Sends a precompiled message to a command source. The message is taken from the
+     * message table of the locale of the source as a ready-made component, no parsing is done.
+     *
+     * @param source The command source to whom the message will be sent.
+     * @param key    The key of the message to send.
+     */
+    public static void sendRichMsg(CommandSource source, MessageKey key) {
+        source.sendMessage(Nexus.plugin.getLocaleManager().getMessageTable(source).get(key));
+    }
+
+    /**
+     * Sends a precompiled message to a command source with parameterized placeholders. Only the
+     * placeholder values are turned into components, the rest of the message is precompiled.
+     *
+     * @param source     The command source to whom the message will be sent.
+     * @param key        The key of the message to send.
+     * @param parameters A map of placeholder keys and their replacement values.
+     */
+    public static void sendRichMsg(CommandSource source, MessageKey key, Map<String, Object> parameters) {
+        source.sendMessage(Nexus.plugin.getLocaleManager().getMessageTable(source).render(key, parameters));
+    }
+
+    /**
+     * Sends a precompiled message to a command source, resolving its placeholders from the given context.
+     *
+     * @param source  The command source to whom the message will be sent.
+     * @param key     The key of the message to send.
+     * @param context The context of the message.
+     */
+    public static void sendRichMsg(CommandSource source, MessageKey key, PlaceholderContext context) {
+        source.sendMessage(Nexus.plugin.getLocaleManager().getMessageTable(source).render(key, context));
+    }
+}
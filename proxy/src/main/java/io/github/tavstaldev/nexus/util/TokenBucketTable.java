@@ -0,0 +1,120 @@
+package io.github.tavstaldev.nexus.util;
+
+/**
+ * The TokenBucketTable class is a fixed-size table of token buckets keyed by {@code long} keys.
+ * <p>
+ * Buckets are stored in primitive arrays grouped into 4-way sets, so acquiring a token never allocates
+ * and the memory of the table does not grow with the number of keys. When a set is full, the bucket
+ * that was used least recently is given to the new key. Each set is guarded by one of a fixed number of
+ * lock stripes, so unrelated keys rarely contend.
+ */
+public class TokenBucketTable {
+    // The number of buckets in a set.
+    private static final int WAYS = 4;
+
+    // The number of lock stripes.
+    private static final int STRIPES = 64;
+
+    // Tokens are counted in thousandths, so slow refill rates do not round down to zero.
+    private static final long SCALE = 1000L;
+
+    // The keys of the buckets.
+    private final long[] keys;
+
+    // The tokens of the buckets, in thousandths of a token.
+    private final long[] tokens;
+
+    // The time the buckets were last refilled at, in nanoseconds. 0 marks an unused bucket.
+    private final long[] refilledAt;
+
+    // The locks guarding the sets.
+    private final Object[] locks;
+
+    // The mask selecting the set of a hash.
+    private final int setMask;
+
+    // The maximum number of tokens of a bucket, in thousandths of a token.
+    private final long capacity;
+
+    // The number of tokens added per second.
+    private final long ratePerSecond;
+
+    /**
+     * Constructs a new TokenBucketTable.
+     *
+     * @param size          The minimum number of buckets, rounded up to a power of two.
+     * @param burst         The maximum number of tokens of a bucket.
+     * @param ratePerSecond The number of tokens added to a bucket per second.
+     */
+    public TokenBucketTable(int size, int burst, int ratePerSecond) {
+        int sets = Integer.highestOneBit(Math.max(WAYS, size - 1) / WAYS * 2);
+        this.setMask = sets - 1;
+        this.keys = new long[sets * WAYS];
+        this.tokens = new long[sets * WAYS];
+        this.refilledAt = new long[sets * WAYS];
+        this.locks = new Object[STRIPES];
+        for (int i = 0; i < STRIPES; i++) {
+            locks[i] = new Object();
+        }
+        this.capacity = Math.max(1, burst) * SCALE;
+        this.ratePerSecond = Math.max(1, ratePerSecond);
+    }
+
+    /**
+     * Takes a token from the bucket of a key. Keys without a bucket start with a full bucket.
+     *
+     * @param key The key of the bucket.
+     * @return True if a token was taken, false if the bucket is empty.
+     */
+    public boolean tryAcquire(long key) {
+        long now = Math.max(1, System.nanoTime());
+        int set = mix(key) & setMask;
+        int base = set * WAYS;
+        synchronized (locks[set & (STRIPES - 1)]) {
+            int slot = -1;
+            int oldest = base;
+            for (int i = base; i < base + WAYS; i++) {
+                if (refilledAt[i] != 0 && keys[i] == key) {
+                    slot = i;
+                    break;
+                }
+                if (refilledAt[i] < refilledAt[oldest])
+                    oldest = i;
+            }
+
+            long available;
+            if (slot < 0) {
+                slot = oldest;
+                keys[slot] = key;
+                available = capacity;
+            } else {
+                // Cap the elapsed time before converting it, so the refill cannot overflow.
+                long elapsed = Math.min(now - refilledAt[slot], capacity * 1_000_000L / ratePerSecond);
+                available = Math.min(capacity, tokens[slot] + elapsed * ratePerSecond / 1_000_000L);
+            }
+            refilledAt[slot] = now;
+
+            if (available < SCALE) {
+                tokens[slot] = available;
+                return false;
+            }
+            tokens[slot] = available - SCALE;
+            return true;
+        }
+    }
+
+    /**
+     * Spreads the bits of a key, so keys differing only in their high bits land in different sets.
+     *
+     * @param key The key to hash.
+     * @return The hash of the key.
+     */
+    private static int mix(long key) {
+        key ^= key >>> 33;
+        key *= 0xff51afd7ed558ccdL;
+        key ^= key >>> 33;
+        key *= 0xc4ceb93fe1a85ec3L;
+        key ^= key >>> 33;
+        return (int) key;
+    }
+}
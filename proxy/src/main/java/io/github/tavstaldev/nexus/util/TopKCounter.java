@@ -0,0 +1,118 @@
+package io.github.tavstaldev.nexus.util;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * The TopKCounter class tracks the most frequent keys of a stream in a fixed amount of memory,
+ * using the Space-Saving algorithm. When every slot is taken, a new key replaces the least frequent one
+ * and inherits its count, so counts are upper bounds, and every key seen more often than
+ * {@code total / capacity} times is guaranteed to be tracked.
+ *
+ * @param <T> The type of the labels shown for the keys.
+ */
+public class TopKCounter<T> {
+    // The keys of the slots.
+    private final long[] keys;
+
+    // The counts of the slots.
+    private final long[] counts;
+
+    // The labels of the slots.
+    private final Object[] labels;
+
+    // The number of slots taken.
+    private int size;
+
+    /**
+     * Constructs a new TopKCounter.
+     *
+     * @param capacity The number of keys tracked.
+     */
+    public TopKCounter(int capacity) {
+        this.keys = new long[capacity];
+        this.counts = new long[capacity];
+        this.labels = new Object[capacity];
+    }
+
+    /**
+     * Counts an occurrence of a key.
+     *
+     * @param key   The key.
+     * @param label The label shown for the key, used if the key is not tracked yet.
+     */
+    public synchronized void offer(long key, @NotNull T label) {
+        int min = 0;
+        for (int i = 0; i < size; i++) {
+            if (keys[i] == key) {
+                counts[i]++;
+                return;
+            }
+            if (counts[i] < counts[min])
+                min = i;
+        }
+
+        if (size < keys.length) {
+            keys[size] = key;
+            counts[size] = 1;
+            labels[size] = label;
+            size++;
+            return;
+        }
+        keys[min] = key;
+        counts[min]++;
+        labels[min] = label;
+    }
+
+    /**
+     * Retrieves the tracked keys, from the most frequent to the least frequent.
+     *
+     * @param limit The maximum number of entries to return.
+     * @return The list of entries.
+     */
+    @SuppressWarnings("unchecked")
+    public synchronized List<Entry<T>> getTop(int limit) {
+        List<Entry<T>> entries = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            entries.add(new Entry<>((T) labels[i], counts[i]));
+        }
+        entries.sort(Comparator.comparingLong((Entry<T> entry) -> entry.count).reversed());
+        return entries.size() > limit ? entries.subList(0, limit) : entries;
+    }
+
+    /**
+     * Forgets every tracked key.
+     */
+    public synchronized void clear() {
+        for (int i = 0; i < size; i++) {
+            labels[i] = null;
+        }
+        size = 0;
+    }
+
+    /**
+     * A tracked key and its count.
+     *
+     * @param <T> The type of the label.
+     */
+    public static final class Entry<T> {
+        private final T label;
+        private final long count;
+
+        private Entry(T label, long count) {
+            this.label = label;
+            this.count = count;
+        }
+
+        public T getLabel() {
+            return label;
+        }
+
+        public long getCount() {
+            return count;
+        }
+    }
+}